@@ -2,7 +2,9 @@ package net.codersky.skyutils.paper;
 
 import net.codersky.skyutils.MCPlatform;
 import net.codersky.skyutils.SkyUtils;
+import net.codersky.skyutils.paper.time.FoliaTaskScheduler;
 import net.codersky.skyutils.spigot.SpigotUtils;
+import net.codersky.skyutils.spigot.time.SpigotTaskScheduler;
 import org.bukkit.Bukkit;
 import org.bukkit.Server;
 import org.bukkit.command.CommandMap;
@@ -17,6 +19,8 @@ import org.jetbrains.annotations.NotNull;
  * <p>
  * The use of the Spigot platform is recommended unless you
  * are making a plugin for Paper only, incompatible with Spigot.
+ * The only exception to this are Folia servers, where the
+ * Paper platform will automatically use a {@link FoliaTaskScheduler}.
  *
  * @param <P> The {@link JavaPlugin} that owns this utils.
  *
@@ -51,4 +55,20 @@ public class PaperUtils<P extends JavaPlugin> extends SpigotUtils<P> {
 	public SimpleCommandMap getCommandMap() {
 		return Bukkit.getServer().getCommandMap() instanceof SimpleCommandMap map ? map : null;
 	}
+
+	/**
+	 * Gets the {@link SpigotTaskScheduler} used by this utils. On Folia servers, this will
+	 * be a {@link FoliaTaskScheduler}, so make sure to use the entity and location bound
+	 * methods of the scheduler when interacting with entities or blocks if you want
+	 * your plugin to support Folia.
+	 *
+	 * @return The {@link SpigotTaskScheduler} used by this utils.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	@NotNull
+	@Override
+	public SpigotTaskScheduler getScheduler() {
+		return super.getScheduler();
+	}
 }
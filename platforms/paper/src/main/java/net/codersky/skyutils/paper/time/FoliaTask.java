@@ -0,0 +1,40 @@
+package net.codersky.skyutils.paper.time;
+
+import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
+import net.codersky.skyutils.spigot.time.SpigotTask;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A {@link SpigotTask} created by a {@link FoliaTaskScheduler},
+ * which wraps a Folia {@link ScheduledTask} instead of a
+ * {@link org.bukkit.scheduler.BukkitTask BukkitTask}.
+ *
+ * @since SkyUtils 1.0.0
+ *
+ * @author xDec0de_
+ */
+public class FoliaTask extends SpigotTask {
+
+	private final ScheduledTask task;
+
+	FoliaTask(@NotNull ScheduledTask task) {
+		this.task = task;
+	}
+
+	/**
+	 * Gets the Folia {@link ScheduledTask} wrapped by this {@link FoliaTask}.
+	 *
+	 * @return The Folia {@link ScheduledTask} wrapped by this {@link FoliaTask}.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	@NotNull
+	public ScheduledTask getScheduledTask() {
+		return task;
+	}
+
+	@Override
+	public void cancel() {
+		task.cancel();
+	}
+}
@@ -0,0 +1,151 @@
+package net.codersky.skyutils.paper.time;
+
+import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
+import net.codersky.skyutils.spigot.time.SpigotSyncExecutor;
+import net.codersky.skyutils.spigot.time.SpigotTaskScheduler;
+import net.codersky.skyutils.time.MCTicks;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.entity.Entity;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * The Folia platform {@link net.codersky.skyutils.time.TaskScheduler TaskScheduler}.
+ * Folia ticks regions of the world in parallel and doesn't have a single main
+ * thread, so the Bukkit scheduler can't be used. This scheduler uses the
+ * Folia schedulers instead:
+ * <ul>
+ *     <li>Synchronous tasks that aren't bound to an entity or location run
+ *     on the global region, which can't access entities or blocks.</li>
+ *     <li>Entity bound tasks run on the region that owns the entity, following
+ *     it if it moves to another region. These tasks are not scheduled
+ *     if the entity has been removed.</li>
+ *     <li>Location bound tasks run on the region that owns the location.</li>
+ *     <li>Asynchronous tasks run on the Folia async scheduler.</li>
+ * </ul>
+ * {@link SpigotTaskScheduler#create(JavaPlugin)} creates this
+ * scheduler automatically when running on Folia.
+ *
+ * @since SkyUtils 1.0.0
+ *
+ * @author xDec0de_
+ */
+public class FoliaTaskScheduler extends SpigotTaskScheduler {
+
+	public FoliaTaskScheduler(@NotNull JavaPlugin plugin) {
+		super(plugin, new SpigotSyncExecutor(plugin) {
+			@Override
+			protected void schedule(@NotNull Runnable drain) {
+				Bukkit.getGlobalRegionScheduler().execute(getPlugin(), drain);
+			}
+		});
+	}
+
+	/** Folia requires delays of at least one tick on region schedulers. */
+	private static long toTicks(@NotNull TimeUnit unit, int amount) {
+		return Math.max(1, MCTicks.toTicks(unit, amount));
+	}
+
+	@NotNull
+	private static Consumer<ScheduledTask> consumer(@NotNull Runnable task) {
+		return scheduled -> task.run();
+	}
+
+	@Nullable
+	private static FoliaTask wrap(@Nullable ScheduledTask task) {
+		return task == null ? null : new FoliaTask(task);
+	}
+
+	/*
+	 - Synchronous tasks (Global region)
+	 */
+
+	@NotNull
+	@Override
+	public FoliaTask runSync(@NotNull Runnable task) {
+		return new FoliaTask(Bukkit.getGlobalRegionScheduler().run(getPlugin(), consumer(task)));
+	}
+
+	@NotNull
+	@Override
+	public FoliaTask delaySync(@NotNull Runnable task, @NotNull TimeUnit unit, int delay) {
+		return new FoliaTask(Bukkit.getGlobalRegionScheduler().runDelayed(getPlugin(), consumer(task), toTicks(unit, delay)));
+	}
+
+	@NotNull
+	@Override
+	public FoliaTask repeatSync(@NotNull Runnable task, @NotNull TimeUnit unit, int delay, int repeat) {
+		return new FoliaTask(Bukkit.getGlobalRegionScheduler().runAtFixedRate(getPlugin(), consumer(task), toTicks(unit, delay), toTicks(unit, repeat)));
+	}
+
+	/*
+	 - Entity bound synchronous tasks
+	 */
+
+	@Nullable
+	@Override
+	public FoliaTask runSync(@NotNull Entity entity, @NotNull Runnable task) {
+		return wrap(entity.getScheduler().run(getPlugin(), consumer(task), null));
+	}
+
+	@Nullable
+	@Override
+	public FoliaTask delaySync(@NotNull Entity entity, @NotNull Runnable task, @NotNull TimeUnit unit, int delay) {
+		return wrap(entity.getScheduler().runDelayed(getPlugin(), consumer(task), null, toTicks(unit, delay)));
+	}
+
+	@Nullable
+	@Override
+	public FoliaTask repeatSync(@NotNull Entity entity, @NotNull Runnable task, @NotNull TimeUnit unit, int delay, int repeat) {
+		return wrap(entity.getScheduler().runAtFixedRate(getPlugin(), consumer(task), null, toTicks(unit, delay), toTicks(unit, repeat)));
+	}
+
+	/*
+	 - Location bound synchronous tasks
+	 */
+
+	@NotNull
+	@Override
+	public FoliaTask runSync(@NotNull Location location, @NotNull Runnable task) {
+		return new FoliaTask(Bukkit.getRegionScheduler().run(getPlugin(), location, consumer(task)));
+	}
+
+	@NotNull
+	@Override
+	public FoliaTask delaySync(@NotNull Location location, @NotNull Runnable task, @NotNull TimeUnit unit, int delay) {
+		return new FoliaTask(Bukkit.getRegionScheduler().runDelayed(getPlugin(), location, consumer(task), toTicks(unit, delay)));
+	}
+
+	@NotNull
+	@Override
+	public FoliaTask repeatSync(@NotNull Location location, @NotNull Runnable task, @NotNull TimeUnit unit, int delay, int repeat) {
+		return new FoliaTask(Bukkit.getRegionScheduler().runAtFixedRate(getPlugin(), location, consumer(task), toTicks(unit, delay), toTicks(unit, repeat)));
+	}
+
+	/*
+	 - Asynchronous tasks
+	 */
+
+	@NotNull
+	@Override
+	public FoliaTask runAsync(@NotNull Runnable task) {
+		return new FoliaTask(Bukkit.getAsyncScheduler().runNow(getPlugin(), consumer(task)));
+	}
+
+	@NotNull
+	@Override
+	public FoliaTask delayAsync(@NotNull Runnable task, @NotNull TimeUnit unit, int delay) {
+		return new FoliaTask(Bukkit.getAsyncScheduler().runDelayed(getPlugin(), consumer(task), Math.max(0, delay), unit));
+	}
+
+	@NotNull
+	@Override
+	public FoliaTask repeatAsync(@NotNull Runnable task, @NotNull TimeUnit unit, int delay, int repeat) {
+		return new FoliaTask(Bukkit.getAsyncScheduler().runAtFixedRate(getPlugin(), consumer(task), Math.max(0, delay), repeat, unit));
+	}
+}
@@ -15,9 +15,17 @@ dependencies {
 	implementation(libs.adventure.serializer.gson)
 	compileOnly(libs.spigot)
 	compileOnly(libs.jetbrains.annotations)
+	testImplementation(platform(libs.junit.bom))
+	testImplementation(libs.junit.jupiter)
+	testImplementation(libs.spigot)
+	testRuntimeOnly(libs.junit.platform.launcher)
 }
 
 tasks {
+	test {
+		useJUnitPlatform()
+	}
+
 	shadowJar {
 		relocate("net.kyori", "net.codersky.skyutils.shaded.kyori")
 		relocate("com.google.gson", "net.codersky.skyutils.shaded.gson")
@@ -17,7 +17,7 @@ import org.jetbrains.annotations.NotNull;
 public class SkyUtilsSpigot extends JavaPlugin {
 
 	private static SkyUtilsSpigot instance;
-	private final SpigotTaskScheduler scheduler = new SpigotTaskScheduler(this);
+	private final SpigotTaskScheduler scheduler = SpigotTaskScheduler.create(this);
 	private final SpigotPlayerProvider playerProvider = new SpigotPlayerProvider();
 
 	public SkyUtilsSpigot() {
@@ -60,7 +60,7 @@ public class SpigotUtils<P extends JavaPlugin> extends SkyUtils<P> {
 
 	public SpigotUtils(@NotNull P plugin) {
 		super(plugin);
-		this.scheduler = new SpigotTaskScheduler(plugin);
+		this.scheduler = SpigotTaskScheduler.create(plugin);
 	}
 
 	@NotNull
@@ -74,6 +74,7 @@ public class SpigotUtils<P extends JavaPlugin> extends SkyUtils<P> {
 	 */
 
 	@NotNull
+	@Override
 	public CustomSpigotPlayerProvider<? extends SpigotPlayer, ? extends OfflineSpigotPlayer> getPlayerProvider() {
 		return SkyUtilsSpigot.getInstance().getPlayerProvider();
 	}
@@ -98,8 +99,16 @@ public class SpigotUtils<P extends JavaPlugin> extends SkyUtils<P> {
 	@Nullable
 	@Override
 	public SpigotPlayer getPlayer(@NotNull String name) {
-		final Player bukkit = Bukkit.getPlayer(name);
-		return bukkit == null ? null : getPlayer(bukkit);
+		final CustomSpigotPlayerProvider<? extends SpigotPlayer, ? extends OfflineSpigotPlayer> provider = getPlayerProvider();
+		final SpigotPlayer exact = provider.getOnline(name);
+		if (exact != null)
+			return exact;
+		// Same behaviour as Bukkit.getPlayer(String), the shortest name starting with "name" wins.
+		String closest = null;
+		for (String match : provider.getOnlineNames(name))
+			if (closest == null || match.length() < closest.length())
+				closest = match;
+		return closest == null ? null : provider.getOnline(closest);
 	}
 
 	/*
@@ -30,6 +30,8 @@ public class InventoryBuilder implements Cloneable {
 
 	private String title;
 	private Inventory inv;
+	/* Staged contents of inv, null if this builder isn't staging changes. See #stage() */
+	private ItemStack[] staged = null;
 
 	/**
 	 * Tests true if an {@link ItemStack} is null or its type is {@link Material#AIR}
@@ -68,7 +70,8 @@ public class InventoryBuilder implements Cloneable {
 	 */
 	public InventoryBuilder(@Nullable String title, int rows) {
 		final int size = getRowsAsSize(rows);
-		inv = title == null ? Bukkit.createInventory(null, size) : Bukkit.createInventory(null, size, SkyStrings.applyColor(title));
+		this.title = color(title);
+		inv = title == null ? Bukkit.createInventory(null, size) : Bukkit.createInventory(null, size, this.title);
 	}
 
 	/**
@@ -85,7 +88,8 @@ public class InventoryBuilder implements Cloneable {
 	 */
 	public InventoryBuilder(@Nullable InventoryHolder holder,  @Nullable String title, int rows) {
 		final int size = getRowsAsSize(rows);
-		inv = title == null ? Bukkit.createInventory(holder, size) : Bukkit.createInventory(holder, size, SkyStrings.applyColor(title));
+		this.title = color(title);
+		inv = title == null ? Bukkit.createInventory(holder, size) : Bukkit.createInventory(holder, size, this.title);
 	}
 
 	/**
@@ -103,7 +107,8 @@ public class InventoryBuilder implements Cloneable {
 	 */
 	public InventoryBuilder(@Nullable String title, @Nonnull InventoryType type) {
 		Objects.requireNonNull(type, "Inventory type cannot be null.");
-		inv = title == null ? Bukkit.createInventory(null, type) : Bukkit.createInventory(null, type, SkyStrings.applyColor(title));
+		this.title = color(title);
+		inv = title == null ? Bukkit.createInventory(null, type) : Bukkit.createInventory(null, type, this.title);
 	}
 
 	/**
@@ -122,7 +127,8 @@ public class InventoryBuilder implements Cloneable {
 	 */
 	public InventoryBuilder(@Nullable InventoryHolder holder,  @Nullable String title, @Nonnull InventoryType type) {
 		Objects.requireNonNull(type, "Inventory type cannot be null.");
-		inv = title == null ? Bukkit.createInventory(holder, type) : Bukkit.createInventory(holder, type, SkyStrings.applyColor(title));
+		this.title = color(title);
+		inv = title == null ? Bukkit.createInventory(holder, type) : Bukkit.createInventory(holder, type, this.title);
 	}
 
 	/*
@@ -137,17 +143,31 @@ public class InventoryBuilder implements Cloneable {
 		return rows * 9;
 	}
 
+	@Nullable
+	private static String color(@Nullable String title) {
+		return title == null ? null : SkyStrings.applyColor(title);
+	}
+
 	@Nonnull
-	private Inventory edit(@Nullable String title) {
-		Inventory changed;
+	private Inventory create(@Nullable InventoryHolder holder, @Nullable String title) {
 		if (inv.getType() == InventoryType.CHEST)
-			changed = title == null ? Bukkit.createInventory(inv.getHolder(), inv.getSize()) : Bukkit.createInventory(inv.getHolder(), inv.getSize(), title);
-		else
-			changed = title == null ? Bukkit.createInventory(inv.getHolder(), inv.getType()) :Bukkit.createInventory(inv.getHolder(), inv.getType(), title);
-		changed.setContents(inv.getContents());
+			return title == null ? Bukkit.createInventory(holder, inv.getSize()) : Bukkit.createInventory(holder, inv.getSize(), title);
+		return title == null ? Bukkit.createInventory(holder, inv.getType()) : Bukkit.createInventory(holder, inv.getType(), title);
+	}
+
+	@Nonnull
+	private Inventory edit(@Nullable String title) {
+		final Inventory changed = create(inv.getHolder(), title);
+		changed.setContents(getContents());
 		return changed;
 	}
 
+	/* The staged contents, or the contents of inv if not staging. Bukkit always returns a copy. */
+	@Nonnull
+	private ItemStack[] getContents() {
+		return staged != null ? staged : inv.getContents();
+	}
+
 	/*
 	 * Build & clone
 	 */
@@ -185,7 +205,132 @@ public class InventoryBuilder implements Cloneable {
 	 */
 	@Nonnull
 	public InventoryBuilder clone() {
-		return new InventoryBuilder(build());
+		final InventoryBuilder clone = new InventoryBuilder(build());
+		clone.title = title;
+		return clone;
+	}
+
+	/**
+	 * Builds <b>amount</b> clones of the {@link Inventory} being handled by
+	 * this {@link InventoryBuilder} in a single pass. The contents of the
+	 * {@link Inventory} are only read once, and every clone gets them on a
+	 * single {@link Inventory#setContents(ItemStack[])} call. If this
+	 * {@link InventoryBuilder} is {@link #stage() staging} changes, the
+	 * staged contents are used.
+	 *
+	 * @param amount the amount of {@link Inventory inventories} to build.
+	 *
+	 * @return An array with <b>amount</b> clones of the {@link Inventory}
+	 * being handled by this {@link InventoryBuilder}.
+	 *
+	 * @throws IllegalArgumentException if <b>amount</b> is negative.
+	 *
+	 * @since SkyUtils 1.0.0
+	 *
+	 * @see #build(InventoryHolder...)
+	 */
+	@Nonnull
+	public Inventory[] build(int amount) {
+		if (amount < 0)
+			throw new IllegalArgumentException("amount cannot be negative.");
+		final InventoryHolder holder = inv.getHolder();
+		final InventoryHolder[] holders = new InventoryHolder[amount];
+		Arrays.fill(holders, holder);
+		return build(holders);
+	}
+
+	/**
+	 * Builds one clone of the {@link Inventory} being handled by this
+	 * {@link InventoryBuilder} per <b>holder</b> in a single pass, using
+	 * said holder as the {@link InventoryHolder} of the clone. The contents
+	 * of the {@link Inventory} are only read once, and every clone gets them
+	 * on a single {@link Inventory#setContents(ItemStack[])} call. If this
+	 * {@link InventoryBuilder} is {@link #stage() staging} changes, the
+	 * staged contents are used.
+	 *
+	 * @param holders the {@link InventoryHolder holders} of the clones,
+	 * which may be {@code null}.
+	 *
+	 * @return An array with one clone of the {@link Inventory} being handled by
+	 * this {@link InventoryBuilder} per <b>holder</b>, in the same order.
+	 *
+	 * @since SkyUtils 1.0.0
+	 *
+	 * @see #build(int)
+	 */
+	@Nonnull
+	public Inventory[] build(@Nonnull InventoryHolder... holders) {
+		final ItemStack[] contents = getContents();
+		final Inventory[] built = new Inventory[holders.length];
+		for (int i = 0; i < holders.length; i++) {
+			built[i] = create(holders[i], title);
+			built[i].setContents(contents);
+		}
+		return built;
+	}
+
+	/*
+	 * Staging
+	 */
+
+	/**
+	 * Starts staging changes on this {@link InventoryBuilder}. While staging, every
+	 * slot change is recorded on a plain {@link ItemStack} array instead of being
+	 * applied to the {@link Inventory} slot by slot. Staged changes are applied in
+	 * a single {@link Inventory#setContents(ItemStack[])} call with {@link #apply()}.
+	 * This is specially useful when many slots are going to be changed. Methods that
+	 * read items, such as {@link #forEach(Consumer)}, and methods that build
+	 * {@link Inventory inventories}, such as {@link #build()}, use the staged contents.
+	 * Calling this method while already staging does nothing.
+	 *
+	 * @return This {@link InventoryBuilder}.
+	 *
+	 * @since SkyUtils 1.0.0
+	 *
+	 * @see #apply()
+	 * @see #isStaging()
+	 */
+	@Nonnull
+	public InventoryBuilder stage() {
+		if (staged == null)
+			staged = inv.getContents();
+		return this;
+	}
+
+	/**
+	 * Applies every change staged since {@link #stage()} was called to the
+	 * {@link Inventory} being handled by this {@link InventoryBuilder} in a single
+	 * {@link Inventory#setContents(ItemStack[])} call and stops staging changes.
+	 * Calling this method while not staging does nothing.
+	 *
+	 * @return This {@link InventoryBuilder}.
+	 *
+	 * @since SkyUtils 1.0.0
+	 *
+	 * @see #stage()
+	 * @see #isStaging()
+	 */
+	@Nonnull
+	public InventoryBuilder apply() {
+		if (staged != null) {
+			inv.setContents(staged);
+			staged = null;
+		}
+		return this;
+	}
+
+	/**
+	 * Checks if this {@link InventoryBuilder} is {@link #stage() staging} changes.
+	 *
+	 * @return {@code true} if this {@link InventoryBuilder} is staging changes, {@code false} otherwise.
+	 *
+	 * @since SkyUtils 1.0.0
+	 *
+	 * @see #stage()
+	 * @see #apply()
+	 */
+	public boolean isStaging() {
+		return staged != null;
 	}
 
 	/*
@@ -226,7 +371,8 @@ public class InventoryBuilder implements Cloneable {
 	 */
 	@Nonnull
 	public InventoryBuilder setTitle(@Nullable String title) {
-		this.inv = edit(title);
+		this.title = color(title);
+		this.inv = edit(this.title);
 		return this;
 	}
 
@@ -277,7 +423,11 @@ public class InventoryBuilder implements Cloneable {
 	 * @see #forEachIf(Predicate, Consumer)
 	 */
 	public InventoryBuilder forEach(@Nullable Consumer<ItemStack> action) {
-		if (action != null)
+		if (action == null)
+			return this;
+		if (staged != null)
+			Arrays.asList(staged).forEach(action);
+		else
 			inv.forEach(action);
 		return this;
 	}
@@ -297,13 +447,11 @@ public class InventoryBuilder implements Cloneable {
 		if (action == null)
 			return this;
 		if (condition == null)
-			inv.forEach(action);
-		else
-			inv.forEach(i -> {
-				if (condition.test(i))
-					action.accept(i);
-			});
-		return this;
+			return forEach(action);
+		return forEach(i -> {
+			if (condition.test(i))
+				action.accept(i);
+		});
 	}
 
 	/*
@@ -433,9 +581,17 @@ public class InventoryBuilder implements Cloneable {
 	@Nonnull
 	public InventoryBuilder setIf(@Nullable ItemStack item, Predicate<ItemStack> condition, int... slots) {
 		final ItemStack stack = item == null ? new ItemStack(Material.AIR) : item;
-		for (int slot : slots)
-			if (slot <= inv.getSize()  && (condition == null || condition.test(inv.getItem(slot))))
+		final int size = inv.getSize();
+		for (int slot : slots) {
+			if (slot < 0 || slot >= size)
+				continue;
+			if (staged != null) {
+				if (condition == null || condition.test(staged[slot]))
+					staged[slot] = stack.clone();
+			} else if (condition == null || condition.test(inv.getItem(slot))) {
 				inv.setItem(slot, stack.clone());
+			}
+		}
 		return this;
 	}
 
@@ -484,7 +640,10 @@ public class InventoryBuilder implements Cloneable {
 	 * @see #replaceAll(Material, ItemStack)
 	 */
 	public InventoryBuilder replaceAllIf(@Nonnull Predicate<ItemStack> condition, @Nullable ItemStack item) {
-		return setIf(item, condition, getSlots());
+		// Every slot is checked, so changes are staged and applied at once unless already staging.
+		if (staged != null)
+			return setIf(item, condition, getSlots());
+		return stage().setIf(item, condition, getSlots()).apply();
 	}
 
 	/*
@@ -521,7 +680,7 @@ public class InventoryBuilder implements Cloneable {
 			sb.append("title = '").append(title).append("', ");
 		return sb.append("type = ").append(inv.getType()).append(", ")
 			.append("size = ").append(getSize()).append(", ")
-			.append("contents = ").append(Arrays.toString(inv.getContents())).append("}").toString();
+			.append("contents = ").append(Arrays.toString(getContents())).append("}").toString();
 	}
 
 	@Override
@@ -102,10 +102,31 @@ public class ItemBuilder implements Cloneable {
 		this(stack, false);
 	}
 
+	/**
+	 * Creates a copy of <b>builder</b>, with copies of its {@link ItemStack}
+	 * and of its current {@link ItemMeta}, even if it hasn't been built yet.
+	 *
+	 * @param builder the {@link ItemBuilder} to copy.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	protected ItemBuilder(@NotNull ItemBuilder builder) {
+		this.item = builder.item.clone();
+		this.meta = builder.meta == null ? null : builder.meta.clone();
+	}
+
+	/**
+	 * Creates a copy of this {@link ItemBuilder}, including any change
+	 * made to its {@link ItemMeta} that hasn't been built yet.
+	 *
+	 * @return A copy of this {@link ItemBuilder}.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
 	@NotNull
 	@Override
 	public ItemBuilder clone() {
-		return new ItemBuilder(item);
+		return new ItemBuilder(this);
 	}
 
 	/**
@@ -134,6 +155,22 @@ public class ItemBuilder implements Cloneable {
 		return item;
 	}
 
+	/**
+	 * {@link #build() Builds} the {@link ItemStack} of this {@link ItemBuilder}
+	 * and creates an immutable {@link ItemTemplate} with a copy of it. Further
+	 * changes to this {@link ItemBuilder} don't affect the template. Templates
+	 * should be preferred when the same item is given to many players, as it
+	 * is only built once.
+	 *
+	 * @return A new {@link ItemTemplate} of the {@link ItemStack} of this {@link ItemBuilder}.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	@NotNull
+	public ItemTemplate toTemplate() {
+		return new ItemTemplate(build());
+	}
+
 	/*
 	 * ITEMSTACK MODIFIERS
 	 */
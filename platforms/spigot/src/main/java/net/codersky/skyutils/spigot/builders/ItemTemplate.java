@@ -0,0 +1,216 @@
+package net.codersky.skyutils.spigot.builders;
+
+import net.codersky.jsky.strings.Replacer;
+import org.bukkit.Material;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.UnaryOperator;
+
+/**
+ * An immutable {@link ItemStack} template, usually created with {@link ItemBuilder#toTemplate()}.
+ * The {@link ItemStack} of a template is built only once, and its {@link ItemMeta}, display name
+ * and lore are cached, so the same item can be handed out to many players without building it
+ * again every time.
+ * <p>
+ * {@link #getShared()} returns the shared instance itself, for places that copy the item anyway,
+ * such as {@link Inventory#setItem(int, ItemStack)}, while {@link #getItem()} returns a copy of it.
+ * Per-player variations of the display name and lore, such as placeholders, can be applied with
+ * {@link #getItem(UnaryOperator)}, which only copies and modifies the cached {@link ItemMeta}
+ * if any line actually changes.
+ *
+ * @author xDec0de_
+ *
+ * @since SkyUtils 1.0.0
+ *
+ * @see ItemBuilder#toTemplate()
+ */
+public final class ItemTemplate {
+
+	private final ItemStack item;
+	/* item without meta, so per-player copies only apply their own meta once. */
+	private final ItemStack base;
+	@Nullable
+	private final ItemMeta meta;
+	@Nullable
+	private final String name;
+	@Nullable
+	private final List<String> lore;
+
+	/**
+	 * Creates a new {@link ItemTemplate} from a copy of an {@link ItemStack}.
+	 * Changes made to <b>stack</b> after creating the template don't affect it.
+	 *
+	 * @param stack the {@link ItemStack} to use.
+	 *
+	 * @throws NullPointerException if <b>stack</b> is {@code null}.
+	 *
+	 * @since SkyUtils 1.0.0
+	 *
+	 * @see ItemBuilder#toTemplate()
+	 */
+	public ItemTemplate(@Nonnull ItemStack stack) {
+		this.item = Objects.requireNonNull(stack, "stack cannot be null.").clone();
+		this.meta = item.hasItemMeta() ? item.getItemMeta() : null;
+		this.base = item.clone();
+		if (meta != null)
+			base.setItemMeta(null);
+		this.name = meta != null && meta.hasDisplayName() ? meta.getDisplayName() : null;
+		this.lore = meta != null && meta.hasLore() ? List.copyOf(meta.getLore()) : null;
+	}
+
+	/**
+	 * Gets the {@link Material} of this {@link ItemTemplate}.
+	 *
+	 * @return The {@link Material} of this {@link ItemTemplate}.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	@Nonnull
+	public Material getType() {
+		return item.getType();
+	}
+
+	/**
+	 * Gets the shared {@link ItemStack} of this {@link ItemTemplate}. This is the
+	 * same instance on every call, so it <b>must not</b> be modified. It is safe to use
+	 * on methods that copy the item, such as {@link Inventory#setItem(int, ItemStack)}.
+	 *
+	 * @return The shared {@link ItemStack} of this {@link ItemTemplate}.
+	 *
+	 * @since SkyUtils 1.0.0
+	 *
+	 * @see #getItem()
+	 */
+	@Nonnull
+	public ItemStack getShared() {
+		return item;
+	}
+
+	/**
+	 * Gets a copy of the {@link ItemStack} of this {@link ItemTemplate},
+	 * which can be freely modified.
+	 *
+	 * @return A copy of the {@link ItemStack} of this {@link ItemTemplate}.
+	 *
+	 * @since SkyUtils 1.0.0
+	 *
+	 * @see #getShared()
+	 */
+	@Nonnull
+	public ItemStack getItem() {
+		return item.clone();
+	}
+
+	/**
+	 * Gets a copy of the {@link ItemStack} of this {@link ItemTemplate} with <b>replacer</b>
+	 * applied to its display name and every line of its lore. The cached {@link ItemMeta} is
+	 * only copied and modified if the <b>replacer</b> changes any of them, otherwise, this is
+	 * the same as {@link #getItem()}. Note that colors aren't applied to the result of the
+	 * <b>replacer</b>.
+	 *
+	 * @param replacer the function to apply to the display name and lore lines.
+	 *
+	 * @return A copy of the {@link ItemStack} of this {@link ItemTemplate} with
+	 * <b>replacer</b> applied to it.
+	 *
+	 * @throws NullPointerException if <b>replacer</b> is {@code null}.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	@Nonnull
+	public ItemStack getItem(@Nonnull UnaryOperator<String> replacer) {
+		Objects.requireNonNull(replacer, "replacer cannot be null.");
+		if (meta == null)
+			return item.clone();
+		final String newName = name == null ? null : replacer.apply(name);
+		List<String> newLore = null;
+		if (lore != null) {
+			for (int i = 0; i < lore.size(); i++) {
+				final String line = lore.get(i);
+				final String replaced = replacer.apply(line);
+				if (newLore == null && !Objects.equals(line, replaced)) {
+					newLore = new ArrayList<>(lore.size());
+					newLore.addAll(lore.subList(0, i));
+				}
+				if (newLore != null)
+					newLore.add(replaced);
+			}
+		}
+		final boolean nameChanged = !Objects.equals(name, newName);
+		if (!nameChanged && newLore == null)
+			return item.clone();
+		final ItemMeta delta = meta.clone();
+		if (nameChanged)
+			delta.setDisplayName(newName);
+		if (newLore != null)
+			delta.setLore(newLore);
+		final ItemStack result = base.clone();
+		result.setItemMeta(delta);
+		return result;
+	}
+
+	/**
+	 * Gets a copy of the {@link ItemStack} of this {@link ItemTemplate} with <b>replacer</b>
+	 * applied to its display name and every line of its lore.
+	 *
+	 * @param replacer the {@link Replacer} to apply.
+	 *
+	 * @return A copy of the {@link ItemStack} of this {@link ItemTemplate} with
+	 * <b>replacer</b> applied to it.
+	 *
+	 * @throws NullPointerException if <b>replacer</b> is {@code null}.
+	 *
+	 * @since SkyUtils 1.0.0
+	 *
+	 * @see #getItem(UnaryOperator)
+	 */
+	@Nonnull
+	public ItemStack getItem(@Nonnull Replacer replacer) {
+		Objects.requireNonNull(replacer, "replacer cannot be null.");
+		return getItem(replacer::replaceAt);
+	}
+
+	/**
+	 * Gets a copy of the {@link ItemMeta} of this {@link ItemTemplate}, if any.
+	 *
+	 * @return A copy of the {@link ItemMeta} of this {@link ItemTemplate}, {@code null}
+	 * if the {@link ItemStack} of this {@link ItemTemplate} has no {@link ItemMeta}.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	@Nullable
+	public ItemMeta getMeta() {
+		return meta == null ? null : meta.clone();
+	}
+
+	/**
+	 * Creates a new {@link ItemBuilder} with a copy of the {@link ItemStack}
+	 * of this {@link ItemTemplate}, in order to create a modified template.
+	 *
+	 * @return A new {@link ItemBuilder}.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	@Nonnull
+	public ItemBuilder toBuilder() {
+		return new ItemBuilder(item, true);
+	}
+
+	@Override
+	public boolean equals(@Nullable Object obj) {
+		return this == obj || (obj instanceof ItemTemplate other && item.equals(other.item));
+	}
+
+	@Override
+	public int hashCode() {
+		return item.hashCode();
+	}
+}
@@ -32,6 +32,16 @@ public class SkullBuilder extends ItemBuilder {
 		super(Material.PLAYER_HEAD);
 	}
 
+	private SkullBuilder(@Nonnull SkullBuilder builder) {
+		super(builder);
+	}
+
+	@Nonnull
+	@Override
+	public SkullBuilder clone() {
+		return new SkullBuilder(this);
+	}
+
 	/**
 	 * Gets the {@link SkullMeta} being used by this {@link SkullBuilder}.
 	 * 
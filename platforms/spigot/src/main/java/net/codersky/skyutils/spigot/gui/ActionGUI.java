@@ -0,0 +1,49 @@
+package net.codersky.skyutils.spigot.gui;
+
+import org.bukkit.entity.Player;
+import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.inventory.Inventory;
+
+import javax.annotation.Nonnull;
+
+/**
+ * A {@link GUI} that handles clicks through a {@link GUIActionMap}
+ * instead of overriding {@link #onClick(Player, Inventory, InventoryClickEvent)}.
+ * Every click on this {@link GUI} executes the actions of the clicked
+ * slot and gets cancelled. Actions that need to filter clicks by
+ * {@link org.bukkit.event.inventory.ClickType ClickType} or by clicked
+ * inventory can use {@link ConditionalGUIAction}.
+ *
+ * @author xDec0de_
+ *
+ * @since SkyUtils 1.0.0
+ *
+ * @see GUIActionMap
+ */
+public interface ActionGUI extends GUI {
+
+	/**
+	 * Gets the {@link GUIActionMap} used by this {@link ActionGUI}. This method is
+	 * called on every click, so the map should be created once and reused.
+	 *
+	 * @return The {@link GUIActionMap} used by this {@link ActionGUI}.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	@Nonnull
+	public GUIActionMap getActionMap();
+
+	/**
+	 * Executes the {@link GUIAction GUIActions} of the clicked slot from
+	 * {@link #getActionMap()} and cancels the click.
+	 *
+	 * @return {@code false}, so the click gets cancelled.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	@Override
+	public default boolean onClick(@Nonnull Player clicker, @Nonnull Inventory inv, @Nonnull InventoryClickEvent event) {
+		getActionMap().execute(event);
+		return false;
+	}
+}
@@ -1,6 +1,5 @@
 package net.codersky.skyutils.spigot.gui;
 
-import java.util.ArrayList;
 import java.util.Objects;
 
 import javax.annotation.Nonnull;
@@ -25,7 +24,8 @@ public class ConditionalGUIAction implements GUIAction {
 
 	private final GUIAction simpleAction;
 	private final GUIPosition position;
-	private final ArrayList<ClickType> clickTypes;
+	/* Bit i is set if the ClickType with ordinal i triggers this action, 0 means every type. */
+	private final long clickMask;
 
 	/**
 	 * Creates a new {@link ConditionalGUIAction} with the specified {@link GUIPosition} and {@link ClickType}s.
@@ -35,7 +35,7 @@ public class ConditionalGUIAction implements GUIAction {
 	 * @param types the click types that will trigger this <b>action</b>, if no types are specified,
 	 * every click type will trigger the <b>action</b>.
 	 * 
-	 * @throws NullPointerException if <b>position</b>, <b>action</b> or <b>types</b> are {@code null}.
+	 * @throws NullPointerException if <b>position</b> or <b>action</b> are {@code null}.
 	 * 
 	 * @since SkyUtils 1.0.0
 	 * 
@@ -44,10 +44,12 @@ public class ConditionalGUIAction implements GUIAction {
 	public ConditionalGUIAction(@Nonnull GUIPosition position, @Nonnull GUIAction action, @Nullable ClickType... types) {
 		this.position = Objects.requireNonNull(position);
 		this.simpleAction = Objects.requireNonNull(action);
-		this.clickTypes = new ArrayList<>(types.length);
+		long mask = 0;
 		if (types != null)
 			for (ClickType type : types)
-				this.clickTypes.add(type);
+				if (type != null)
+					mask |= 1L << type.ordinal();
+		this.clickMask = mask;
 	}
 
 	/**
@@ -58,7 +60,7 @@ public class ConditionalGUIAction implements GUIAction {
 	 * @param types the click types that will trigger this <b>action</b>, if no types are specified,
 	 * every click type will trigger the <b>action</b>.
 	 * 
-	 * @throws NullPointerException if <b>action</b> or <b>types</b> are {@code null}.
+	 * @throws NullPointerException if <b>action</b> is {@code null}.
 	 * 
 	 * @since SkyUtils 1.0.0
 	 * 
@@ -70,10 +72,14 @@ public class ConditionalGUIAction implements GUIAction {
 
 	@Override
 	public void click(Player player, InventoryClickEvent event) {
-		if ((clickTypes.isEmpty() || clickTypes.contains(event.getClick())) && position.matches(event))
+		if (event != null && matches(event.getClick()) && position.matches(event))
 			simpleAction.click(player, event);
 	}
 
+	private boolean matches(@Nullable ClickType type) {
+		return clickMask == 0 || (type != null && (clickMask & (1L << type.ordinal())) != 0);
+	}
+
 	/**
 	 * Identifies an {@link Inventory} by position from an {@link InventoryView}.
 	 * 
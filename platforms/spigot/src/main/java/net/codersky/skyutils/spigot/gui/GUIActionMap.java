@@ -1,7 +1,6 @@
 package net.codersky.skyutils.spigot.gui;
 
-import java.util.HashMap;
-import java.util.LinkedList;
+import java.util.Arrays;
 import java.util.List;
 
 import javax.annotation.Nonnull;
@@ -10,52 +9,149 @@ import javax.annotation.Nullable;
 import org.bukkit.entity.Player;
 import org.bukkit.event.inventory.InventoryClickEvent;
 
+/**
+ * Maps inventory slots to the {@link GUIAction GUIActions} that are executed
+ * when said slots are clicked. Actions are stored on an array indexed by slot,
+ * which grows as needed, so executing the actions of a click doesn't box the
+ * slot nor allocate anything. {@link GUI GUIs} can use a {@link GUIActionMap}
+ * through {@link ActionGUI}.
+ * <p>
+ * Slots are {@link InventoryClickEvent#getRawSlot() raw slots}, which are unique
+ * across the whole view. Slots of the top inventory, the one of the {@link GUI},
+ * match its slots, while the ones of the inventory of the player start right after
+ * the last slot of the top inventory, so {@link ConditionalGUIAction ConditionalGUIActions}
+ * with a {@link ConditionalGUIAction.GUIPosition#BOTTOM BOTTOM} position can be
+ * added to those.
+ *
+ * @author xDec0de_
+ *
+ * @since SkyUtils 1.0.0
+ *
+ * @see ActionGUI
+ * @see ConditionalGUIAction
+ */
 public class GUIActionMap {
 
-	private final HashMap<Integer, LinkedList<GUIAction>> actions = new HashMap<>();
+	private static final GUIAction[][] EMPTY = new GUIAction[0][];
 
+	/* Indexed by slot, null elements mean that the slot has no actions. */
+	private GUIAction[][] actions = EMPTY;
+
+	/**
+	 * Executes every {@link GUIAction} of the {@link InventoryClickEvent#getRawSlot() clicked raw slot},
+	 * in the order they were added. Clicks outside of any inventory are ignored.
+	 *
+	 * @param event the {@link InventoryClickEvent} that caused this.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
 	public final void execute(@Nonnull InventoryClickEvent event) {
-		final List<GUIAction> actions = getActions(event.getSlot());
-		if (actions != null)
-			actions.forEach(action -> action.click( (Player) event.getWhoClicked(), event));
+		final int slot = event.getRawSlot();
+		if (slot < 0 || slot >= actions.length)
+			return;
+		final GUIAction[] slotActions = actions[slot];
+		if (slotActions == null)
+			return;
+		final Player clicker = (Player) event.getWhoClicked();
+		for (GUIAction action : slotActions)
+			action.click(clicker, event);
 	}
 
+	/**
+	 * Gets the {@link GUIAction GUIActions} of a <b>slot</b>.
+	 *
+	 * @param slot the slot to check.
+	 *
+	 * @return An unmodifiable {@link List} with the actions of <b>slot</b>,
+	 * {@code null} if the <b>slot</b> has no actions.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
 	@Nullable
-	public final LinkedList<GUIAction> getActions(int slot) {
-		return this.actions.get(slot);
+	public final List<GUIAction> getActions(int slot) {
+		return slot < 0 || slot >= actions.length || actions[slot] == null ? null : List.of(actions[slot]);
+	}
+
+	private void ensureCapacity(int slot) {
+		if (slot >= actions.length)
+			actions = Arrays.copyOf(actions, slot + 1);
 	}
 
+	/**
+	 * Adds <b>actions</b> to a <b>slot</b>, after any action it may already have.
+	 * {@code null} actions are ignored.
+	 *
+	 * @param slot the slot to add the actions to, negative slots are ignored.
+	 * @param actions the actions to add.
+	 *
+	 * @return This {@link GUIActionMap}.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
 	@Nonnull
 	public final GUIActionMap add(int slot, @Nonnull GUIAction... actions) {
-		if (actions == null || actions.length == 0 || slot <= 0)
+		if (actions == null || actions.length == 0 || slot < 0)
 			return this;
-		LinkedList<GUIAction> actionList = getActions(slot);
-		if (actionList == null)
-			actionList = new LinkedList<>();
-		for (GUIAction action : actions)
-			if (action != null)
-				actionList.add(action);
-		this.actions.put(slot, actionList);
+		final GUIAction[] toAdd = Arrays.stream(actions).filter(action -> action != null).toArray(GUIAction[]::new);
+		if (toAdd.length == 0)
+			return this;
+		ensureCapacity(slot);
+		final GUIAction[] current = this.actions[slot];
+		if (current == null) {
+			this.actions[slot] = toAdd;
+		} else {
+			final GUIAction[] joined = Arrays.copyOf(current, current.length + toAdd.length);
+			System.arraycopy(toAdd, 0, joined, current.length, toAdd.length);
+			this.actions[slot] = joined;
+		}
 		return this;
 	}
 
+	/**
+	 * Replaces the {@link GUIAction GUIActions} of a <b>slot</b>. {@code null}
+	 * actions are ignored.
+	 *
+	 * @param slot the slot to set the actions to, negative slots are ignored.
+	 * @param actions the new actions of the <b>slot</b>, {@code null} or
+	 * an empty {@link List} will {@link #clear(int) clear} the <b>slot</b>.
+	 *
+	 * @return This {@link GUIActionMap}.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
 	@Nonnull
-	public final GUIActionMap set(int slot, @Nullable LinkedList<GUIAction> actions) {
+	public final GUIActionMap set(int slot, @Nullable List<GUIAction> actions) {
 		if (actions == null || actions.isEmpty())
 			return clear(slot);
-		this.actions.put(slot, actions);
-		return this;
+		return clear(slot).add(slot, actions.toArray(new GUIAction[0]));
 	}
 
+	/**
+	 * Removes every {@link GUIAction} of a <b>slot</b>.
+	 *
+	 * @param slot the slot to clear.
+	 *
+	 * @return This {@link GUIActionMap}.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
 	@Nonnull
 	public final GUIActionMap clear(int slot) {
-		this.actions.remove(slot);
+		if (slot >= 0 && slot < actions.length)
+			this.actions[slot] = null;
 		return this;
 	}
 
+	/**
+	 * Removes every {@link GUIAction} of this {@link GUIActionMap}.
+	 *
+	 * @return This {@link GUIActionMap}.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
 	@Nonnull
 	public final GUIActionMap clear() {
-		this.actions.clear();
+		this.actions = EMPTY;
 		return this;
 	}
 }
@@ -0,0 +1,81 @@
+package net.codersky.skyutils.spigot.gui;
+
+import org.bukkit.inventory.ItemStack;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * An animation of a single slot of a {@link GUI}, played by a {@link GUIAnimator}.
+ * Animations are split into frames, identified by an index, so the {@link GUIAnimator}
+ * can compare the frame of the current tick with the one of the previous tick and
+ * only update the slot when it actually changes.
+ *
+ * @author xDec0de_
+ *
+ * @since SkyUtils 1.0.0
+ *
+ * @see #of(int, ItemStack...)
+ */
+public interface GUIAnimation {
+
+	/**
+	 * Gets the index of the frame to display on a given <b>tick</b>. This
+	 * method is called every tick, so it should be fast.
+	 *
+	 * @param tick the current tick of the {@link GUIAnimator}.
+	 *
+	 * @return The index of the frame to display.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	public int getFrame(long tick);
+
+	/**
+	 * Gets the item of a <b>frame</b>. This is only called
+	 * when the displayed frame changes.
+	 *
+	 * @param frame the index of the frame, as returned by {@link #getFrame(long)}.
+	 *
+	 * @return The item of the <b>frame</b>, {@code null} to leave the slot empty.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	@Nullable
+	public ItemStack getItem(int frame);
+
+	/**
+	 * Creates a {@link GUIAnimation} that cycles through <b>frames</b>,
+	 * displaying each frame for <b>ticksPerFrame</b> ticks.
+	 *
+	 * @param ticksPerFrame the amount of ticks each frame is displayed.
+	 * @param frames the frames of the animation, {@code null} frames leave the slot empty.
+	 *
+	 * @return A new {@link GUIAnimation}.
+	 *
+	 * @throws IllegalArgumentException if <b>ticksPerFrame</b> is less than one or if no
+	 * <b>frames</b> are specified.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	@Nonnull
+	public static GUIAnimation of(int ticksPerFrame, @Nonnull ItemStack... frames) {
+		if (ticksPerFrame < 1)
+			throw new IllegalArgumentException("ticksPerFrame must be at least one.");
+		if (frames.length == 0)
+			throw new IllegalArgumentException("At least one frame is required.");
+		final ItemStack[] copy = frames.clone();
+		return new GUIAnimation() {
+			@Override
+			public int getFrame(long tick) {
+				return (int) ((tick / ticksPerFrame) % copy.length);
+			}
+
+			@Nullable
+			@Override
+			public ItemStack getItem(int frame) {
+				return copy[frame];
+			}
+		};
+	}
+}
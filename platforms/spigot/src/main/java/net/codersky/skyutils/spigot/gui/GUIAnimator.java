@@ -0,0 +1,221 @@
+package net.codersky.skyutils.spigot.gui;
+
+import net.codersky.skyutils.time.Task;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.Inventory;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Plays {@link GUIAnimation GUIAnimations} on every {@link GUI} opened by a
+ * {@link GUIHandler} from a single repeating task, instead of one task per
+ * {@link GUI}. On every tick, each animated slot is only updated if its
+ * {@link GUIAnimation#getFrame(long) frame} changed since the previous tick,
+ * and {@link GUI GUIs} that nobody is viewing are skipped entirely, so their
+ * animations are suspended until someone opens them again. Inventories shared
+ * by multiple viewers, such as the ones of a {@link SharedGUI}, are only
+ * updated once per tick.
+ * <p>
+ * The task only runs while there is at least one animation. This class isn't
+ * thread safe and is meant to be used on the main thread.
+ *
+ * @author xDec0de_
+ *
+ * @since SkyUtils 1.0.0
+ */
+public class GUIAnimator {
+
+	private final GUIHandler handler;
+	private final HashMap<GUI, Animated> animated = new HashMap<>();
+	private Task task = null;
+	private long tick = 0;
+
+	/**
+	 * Creates a new {@link GUIAnimator} for the {@link GUI GUIs} opened
+	 * by a {@link GUIHandler}.
+	 *
+	 * @param handler the {@link GUIHandler} that opens the animated {@link GUI GUIs}.
+	 *
+	 * @throws NullPointerException if <b>handler</b> is {@code null}.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	public GUIAnimator(@Nonnull GUIHandler handler) {
+		this.handler = Objects.requireNonNull(handler, "handler cannot be null.");
+	}
+
+	/**
+	 * Gets the current tick of this {@link GUIAnimator}, which is increased
+	 * by one every server tick while this {@link GUIAnimator} is running.
+	 *
+	 * @return The current tick of this {@link GUIAnimator}.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	public long getTick() {
+		return tick;
+	}
+
+	/*
+	 * Animation management
+	 */
+
+	/**
+	 * Plays an <b>animation</b> on a <b>slot</b> of every {@link Inventory} of a
+	 * <b>gui</b>, replacing the previous animation of said <b>slot</b>, if any.
+	 *
+	 * @param gui the {@link GUI} to animate.
+	 * @param slot the slot to animate.
+	 * @param animation the {@link GUIAnimation} to play.
+	 *
+	 * @return This {@link GUIAnimator}.
+	 *
+	 * @throws NullPointerException if <b>gui</b> or <b>animation</b> are {@code null}.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	@Nonnull
+	public GUIAnimator animate(@Nonnull GUI gui, int slot, @Nonnull GUIAnimation animation) {
+		Objects.requireNonNull(gui, "gui cannot be null.");
+		Objects.requireNonNull(animation, "animation cannot be null.");
+		final Animated guiAnimations = animated.computeIfAbsent(gui, key -> new Animated());
+		guiAnimations.animations.put(slot, animation);
+		// Inventories that are already open need a full redraw to show the new animation.
+		guiAnimations.suspend();
+		if (task == null)
+			task = handler.getScheduler().repeatSync(this::tick, 1, 1);
+		return this;
+	}
+
+	/**
+	 * Stops the animation of a <b>slot</b> of a <b>gui</b>, if any.
+	 * The current item of the <b>slot</b> is left as is.
+	 *
+	 * @param gui the {@link GUI} to stop animating.
+	 * @param slot the slot to stop animating.
+	 *
+	 * @return This {@link GUIAnimator}.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	@Nonnull
+	public GUIAnimator stop(@Nonnull GUI gui, int slot) {
+		final Animated guiAnimations = animated.get(gui);
+		if (guiAnimations != null) {
+			guiAnimations.animations.remove(slot);
+			if (guiAnimations.animations.isEmpty())
+				stop(gui);
+			else
+				guiAnimations.suspend();
+		}
+		return this;
+	}
+
+	/**
+	 * Stops every animation of a <b>gui</b>.
+	 * The current items of the <b>gui</b> are left as is.
+	 *
+	 * @param gui the {@link GUI} to stop animating.
+	 *
+	 * @return This {@link GUIAnimator}.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	@Nonnull
+	public GUIAnimator stop(@Nonnull GUI gui) {
+		if (animated.remove(gui) != null && animated.isEmpty())
+			cancelTask();
+		return this;
+	}
+
+	/**
+	 * Stops every animation of this {@link GUIAnimator}, which should
+	 * be called when the plugin that owns it gets disabled.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	public void shutdown() {
+		animated.clear();
+		cancelTask();
+	}
+
+	/**
+	 * Checks if a <b>gui</b> has any animation on this {@link GUIAnimator}.
+	 *
+	 * @param gui the {@link GUI} to check.
+	 *
+	 * @return {@code true} if the <b>gui</b> has any animation, {@code false} otherwise.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	public boolean isAnimated(@Nullable GUI gui) {
+		return animated.containsKey(gui);
+	}
+
+	private void cancelTask() {
+		if (task != null)
+			task.cancel();
+		task = null;
+	}
+
+	/*
+	 * Ticking
+	 */
+
+	private void tick() {
+		tick++;
+		animated.forEach((gui, guiAnimations) -> {
+			final Set<UUID> viewers = handler.getViewers(gui);
+			if (viewers.isEmpty())
+				guiAnimations.suspend();
+			else
+				guiAnimations.tick(viewers, tick);
+		});
+	}
+
+	private static final class Animated {
+
+		private final HashMap<Integer, GUIAnimation> animations = new HashMap<>();
+		/* Inventories updated on the previous tick, which only need the frames that changed. */
+		private HashSet<Inventory> synced = new HashSet<>();
+		private HashSet<Inventory> updated = new HashSet<>();
+
+		void suspend() {
+			synced.clear();
+		}
+
+		void tick(@Nonnull Set<UUID> viewers, long tick) {
+			for (UUID uuid : viewers) {
+				final Player player = Bukkit.getPlayer(uuid);
+				if (player == null)
+					continue;
+				final Inventory inv = player.getOpenInventory().getTopInventory();
+				if (updated.add(inv))
+					update(inv, !synced.contains(inv), tick);
+			}
+			final HashSet<Inventory> previous = synced;
+			synced = updated;
+			updated = previous;
+			updated.clear();
+		}
+
+		private void update(@Nonnull Inventory inv, boolean full, long tick) {
+			final int size = inv.getSize();
+			animations.forEach((slot, animation) -> {
+				if (slot < 0 || slot >= size)
+					return;
+				final int frame = animation.getFrame(tick);
+				if (full || frame != animation.getFrame(tick - 1))
+					inv.setItem(slot, animation.getItem(frame));
+			});
+		}
+	}
+}
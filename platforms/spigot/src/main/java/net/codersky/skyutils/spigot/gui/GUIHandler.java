@@ -1,6 +1,8 @@
 package net.codersky.skyutils.spigot.gui;
 
 import net.codersky.jsky.collections.JCollections;
+import net.codersky.skyutils.spigot.time.SpigotTaskScheduler;
+import net.codersky.skyutils.time.MCTicks;
 import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 import org.bukkit.event.Event;
@@ -18,12 +20,13 @@ import org.jetbrains.annotations.ApiStatus;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
-import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 /**
  * A {@link Listener} class that handles {@link GUI}
@@ -38,10 +41,30 @@ import java.util.UUID;
 public class GUIHandler implements Listener {
 
 	private final JavaPlugin plugin;
+	private final SpigotTaskScheduler scheduler;
 	private final HashMap<GUI, Set<UUID>> guis = new HashMap<>();
+	/* Reverse index of guis, so the GUI of a player can be found without iterating every viewer set. */
+	private final HashMap<UUID, GUI> viewers = new HashMap<>();
 
 	public GUIHandler(@Nonnull JavaPlugin plugin) {
-		this.plugin = Objects.requireNonNull(plugin, "plugin cannot be null.");
+		this(SpigotTaskScheduler.create(Objects.requireNonNull(plugin, "plugin cannot be null.")));
+	}
+
+	/**
+	 * Creates a new {@link GUIHandler} that uses the specified <b>scheduler</b> for
+	 * every task it needs, such as the ones of a {@link GUIAnimator} or a {@link PaginatedGUI}.
+	 * The {@link JavaPlugin} of this {@link GUIHandler} will be the one that owns the <b>scheduler</b>.
+	 *
+	 * @param scheduler the {@link SpigotTaskScheduler} to use, usually the one of your
+	 * {@link net.codersky.skyutils.spigot.SpigotUtils SpigotUtils}.
+	 *
+	 * @throws NullPointerException if <b>scheduler</b> is {@code null}.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	public GUIHandler(@Nonnull SpigotTaskScheduler scheduler) {
+		this.scheduler = Objects.requireNonNull(scheduler, "scheduler cannot be null.");
+		this.plugin = scheduler.getPlugin();
 	}
 
 	public GUIHandler init() {
@@ -61,6 +84,18 @@ public class GUIHandler implements Listener {
 		return plugin;
 	}
 
+	/**
+	 * Gets the {@link SpigotTaskScheduler} used by this {@link GUIHandler}.
+	 *
+	 * @return The {@link SpigotTaskScheduler} used by this {@link GUIHandler}.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	@Nonnull
+	public SpigotTaskScheduler getScheduler() {
+		return scheduler;
+	}
+
 	/**
 	 * Opens the specified {@link GUI} to a {@link Player}. Note that this calls
 	 * {@link GUI#onOpen(Player, Event)}, so if said method returns a {@code null}
@@ -81,14 +116,34 @@ public class GUIHandler implements Listener {
 		final Inventory inv = gui.onOpen(Objects.requireNonNull(target, "target is null"), event);
 		if (inv == null)
 			return false;
-		if (!guis.containsKey(gui))
-			guis.put(gui, JCollections.asHashSet(target.getUniqueId()));
-		else
-			guis.get(gui).add(target.getUniqueId());
+		// Opened first, as this closes the previous inventory of the target, which may be another GUI.
 		target.openInventory(inv);
+		track(gui, target.getUniqueId());
 		return true;
 	}
 
+	private void track(@Nonnull GUI gui, @Nonnull UUID uuid) {
+		final GUI previous = viewers.put(uuid, gui);
+		if (previous == gui)
+			return;
+		if (previous != null)
+			untrack(previous, uuid);
+		final Set<UUID> guiViewers = guis.get(gui);
+		if (guiViewers == null)
+			guis.put(gui, JCollections.asHashSet(uuid));
+		else
+			guiViewers.add(uuid);
+	}
+
+	private void untrack(@Nonnull GUI gui, @Nonnull UUID uuid) {
+		final Set<UUID> guiViewers = guis.get(gui);
+		if (guiViewers == null)
+			return;
+		guiViewers.remove(uuid);
+		if (guiViewers.isEmpty())
+			guis.remove(gui);
+	}
+
 	/*
 	 * GUI getters
 	 */
@@ -130,10 +185,25 @@ public class GUIHandler implements Listener {
 	 */
 	@Nullable
 	public GUI getOpenedGUI(@Nonnull UUID playerUUID) {
-		for (Entry<GUI, Set<UUID>> entry : guis.entrySet())
-			if (entry.getValue().contains(playerUUID))
-				return entry.getKey();
-		return null;
+		return playerUUID == null ? null : viewers.get(playerUUID);
+	}
+
+	/**
+	 * Gets the {@link UUID UUIDs} of the players that are currently viewing
+	 * a {@link GUI}. Note that this is only able to track {@link GUI GUIs}
+	 * opened by this {@link GUIHandler}.
+	 *
+	 * @param gui the {@link GUI} to check.
+	 *
+	 * @return An unmodifiable view of the {@link UUID UUIDs} of the players viewing
+	 * the <b>gui</b>, empty if nobody is viewing it.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	@Nonnull
+	public Set<UUID> getViewers(@Nonnull GUI gui) {
+		final Set<UUID> guiViewers = guis.get(gui);
+		return guiViewers == null ? Set.of() : Collections.unmodifiableSet(guiViewers);
 	}
 
 	/*
@@ -144,11 +214,8 @@ public class GUIHandler implements Listener {
 		if (gui.onClose(player, event) || force) {
 			if (event == null || !event.getClass().equals(InventoryCloseEvent.class))
 				player.closeInventory();
-			// viewers is never null as methods use #getOpenedGUI(Player) first.
-			final Set<UUID> viewers = guis.get(gui);
-			viewers.remove(player.getUniqueId());
-			if (viewers.isEmpty())
-				guis.remove(gui);
+			if (viewers.remove(player.getUniqueId(), gui))
+				untrack(gui, player.getUniqueId());
 			return true;
 		}
 		return false;
@@ -354,8 +421,9 @@ public class GUIHandler implements Listener {
 	public void onClose(InventoryCloseEvent event) {
 		final Player player = (Player) event.getPlayer();
 		final GUI gui = getOpenedGUI(player);
+		// Reopened one tick later, on the thread of the player, as inventories can't be opened while closing them.
 		if (gui != null && !close(player, gui, event, false))
-			Bukkit.getScheduler().runTaskLater(plugin, () -> player.openInventory(event.getInventory()), 1);
+			scheduler.delaySync(player, () -> player.openInventory(event.getInventory()), TimeUnit.MILLISECONDS, (int) MCTicks.MILLIS_PER_TICK);
 	}
 
 	@ApiStatus.Internal
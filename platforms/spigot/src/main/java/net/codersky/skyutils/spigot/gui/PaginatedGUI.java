@@ -0,0 +1,527 @@
+package net.codersky.skyutils.spigot.gui;
+
+import net.codersky.skyutils.spigot.time.SpigotTaskScheduler;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.event.Event;
+import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.event.inventory.InventoryCloseEvent;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.ItemStack;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.logging.Level;
+
+/**
+ * A {@link GUI} that displays the entries of a {@link Source} across multiple pages.
+ * Entries are only requested to the {@link Source} and {@link #render(Object) rendered}
+ * when their page becomes visible, so sources with thousands of entries don't need to
+ * build every {@link ItemStack} up front. Rendered pages are shared between every
+ * viewer and the most recently viewed ones are cached.
+ * <p>
+ * Sources can optionally be loaded asynchronously, in which case the content slots of a
+ * page are filled with {@link #getPlaceholder(int) placeholders} until its entries are
+ * loaded. The {@link Source#size() size} of the source is then loaded together with every
+ * page, so sources backed by a database never block the main thread. Rendering always
+ * happens on the main thread.
+ * <p>
+ * Clicks on entries are handled by {@link #onEntryClick(Player, Object, InventoryClickEvent)},
+ * while clicks on any other slot execute the {@link #getActionMap() action map} of this
+ * {@link GUI}, which can be used to add navigation buttons that call {@link #nextPage(Player)}
+ * or {@link #previousPage(Player)}. Every click on this {@link GUI} is cancelled.
+ *
+ * @param <T> the type of the entries of this {@link PaginatedGUI}.
+ *
+ * @author xDec0de_
+ *
+ * @since SkyUtils 1.0.0
+ */
+public abstract class PaginatedGUI<T> implements ActionGUI {
+
+	/**
+	 * The amount of pages cached by default, see {@link #PaginatedGUI(SpigotTaskScheduler, Source, int[], int, boolean)}.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	public static final int DEFAULT_CACHE_SIZE = 8;
+
+	private final SpigotTaskScheduler scheduler;
+	private final Source<T> source;
+	private final int[] contentSlots;
+	/* Maps inventory slots to content indexes, -1 for slots that don't display entries. */
+	private final int[] slotIndexes;
+	private final boolean async;
+	private final GUIActionMap actions = new GUIActionMap();
+
+	private final LinkedHashMap<Integer, Page<T>> cache;
+	private final HashSet<Integer> loading = new HashSet<>();
+	/* Increased by #refresh() so loads of outdated data are discarded. */
+	private int generation = 0;
+	/* Size of the source as of the last loaded page, only used by asynchronous GUIs. */
+	private int loadedSize = 0;
+
+	private final HashMap<UUID, Inventory> inventories = new HashMap<>();
+	private final HashMap<UUID, Integer> pages = new HashMap<>();
+
+	/**
+	 * Creates a new {@link PaginatedGUI}.
+	 *
+	 * @param scheduler the {@link SpigotTaskScheduler} used to schedule asynchronous loads.
+	 * @param source the {@link Source} of the entries to display.
+	 * @param contentSlots the slots used to display entries, in order. The amount of
+	 * slots is the amount of entries per page.
+	 * @param cacheSize the maximum amount of rendered pages to keep cached.
+	 * @param async whether to load pages from the <b>source</b> asynchronously.
+	 *
+	 * @throws NullPointerException if any parameter is {@code null}.
+	 * @throws IllegalArgumentException if <b>contentSlots</b> is empty or contains negative
+	 * slots, or if <b>cacheSize</b> is less than one.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	public PaginatedGUI(@Nonnull SpigotTaskScheduler scheduler, @Nonnull Source<T> source, @Nonnull int[] contentSlots, int cacheSize, boolean async) {
+		this.scheduler = Objects.requireNonNull(scheduler, "scheduler cannot be null.");
+		this.source = Objects.requireNonNull(source, "source cannot be null.");
+		if (contentSlots.length == 0)
+			throw new IllegalArgumentException("At least one content slot is required.");
+		if (cacheSize < 1)
+			throw new IllegalArgumentException("cacheSize must be at least one.");
+		this.contentSlots = contentSlots.clone();
+		this.slotIndexes = new int[Arrays.stream(contentSlots).max().getAsInt() + 1];
+		Arrays.fill(slotIndexes, -1);
+		for (int i = 0; i < contentSlots.length; i++) {
+			if (contentSlots[i] < 0)
+				throw new IllegalArgumentException("Content slots cannot be negative.");
+			slotIndexes[contentSlots[i]] = i;
+		}
+		this.async = async;
+		this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Integer, Page<T>> eldest) {
+				return size() > cacheSize;
+			}
+		};
+	}
+
+	/**
+	 * Creates a new {@link PaginatedGUI} that caches up to {@link #DEFAULT_CACHE_SIZE} pages.
+	 *
+	 * @param scheduler the {@link SpigotTaskScheduler} used to schedule asynchronous loads.
+	 * @param source the {@link Source} of the entries to display.
+	 * @param contentSlots the slots used to display entries, in order. The amount of
+	 * slots is the amount of entries per page.
+	 * @param async whether to load pages from the <b>source</b> asynchronously.
+	 *
+	 * @throws NullPointerException if any parameter is {@code null}.
+	 * @throws IllegalArgumentException if <b>contentSlots</b> is empty or contains negative slots.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	public PaginatedGUI(@Nonnull SpigotTaskScheduler scheduler, @Nonnull Source<T> source, @Nonnull int[] contentSlots, boolean async) {
+		this(scheduler, source, contentSlots, DEFAULT_CACHE_SIZE, async);
+	}
+
+	/*
+	 * Abstract and overridable methods
+	 */
+
+	/**
+	 * Creates the {@link Inventory} of a <b>player</b>, without any entry on it.
+	 * Entries are added to the content slots once the {@link Inventory} is created.
+	 *
+	 * @param player the {@link Player} that is opening this {@link GUI}.
+	 *
+	 * @return The {@link Inventory} of the <b>player</b>, which may be {@code null}
+	 * so that this {@link GUI} isn't opened.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	@Nullable
+	protected abstract Inventory createInventory(@Nonnull Player player);
+
+	/**
+	 * Renders an entry. This is only called once its page becomes visible, and the
+	 * result is cached with said page, so the returned {@link ItemStack} should not
+	 * depend on the {@link Player} that views it. This is always called on the main thread.
+	 *
+	 * @param entry the entry to render.
+	 *
+	 * @return The {@link ItemStack} that displays the <b>entry</b>.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	@Nullable
+	protected abstract ItemStack render(@Nonnull T entry);
+
+	/**
+	 * Gets the placeholder displayed on a content slot while its page is being
+	 * loaded asynchronously. Returns {@code null}, leaving the slot empty, by default.
+	 *
+	 * @param slot the content slot.
+	 *
+	 * @return The placeholder {@link ItemStack} of the <b>slot</b>.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	@Nullable
+	protected ItemStack getPlaceholder(int slot) {
+		return null;
+	}
+
+	/**
+	 * Called whenever a <b>page</b> is shown to a <b>player</b>, for example,
+	 * to update navigation buttons. On asynchronous {@link PaginatedGUI PaginatedGUIs},
+	 * this is called again once the <b>page</b> loads, as the amount of pages may
+	 * change with it. Does nothing by default.
+	 *
+	 * @param player the {@link Player} viewing the <b>page</b>.
+	 * @param inv the {@link Inventory} of the <b>player</b>.
+	 * @param page the page being shown, starting at zero.
+	 * @param pageCount the amount of pages.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	protected void onPageShown(@Nonnull Player player, @Nonnull Inventory inv, int page, int pageCount) {}
+
+	/**
+	 * Called whenever a <b>clicker</b> clicks on an entry.
+	 * Does nothing by default.
+	 *
+	 * @param clicker the {@link Player} who clicked.
+	 * @param entry the clicked entry.
+	 * @param event the {@link InventoryClickEvent} that caused this.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	protected void onEntryClick(@Nonnull Player clicker, @Nonnull T entry, @Nonnull InventoryClickEvent event) {}
+
+	/*
+	 * GUI implementation
+	 */
+
+	@Nonnull
+	@Override
+	public GUIActionMap getActionMap() {
+		return actions;
+	}
+
+	@Nullable
+	@Override
+	public Inventory onOpen(@Nonnull Player player, @Nullable Event event) {
+		final Inventory inv = createInventory(player);
+		if (inv == null)
+			return null;
+		inventories.put(player.getUniqueId(), inv);
+		showPage(player, 0);
+		return inv;
+	}
+
+	@Override
+	public boolean onClick(@Nonnull Player clicker, @Nonnull Inventory inv, @Nonnull InventoryClickEvent event) {
+		final int slot = event.getSlot();
+		if (inv.equals(inventories.get(clicker.getUniqueId())) && inv.equals(event.getClickedInventory()) && slot >= 0 && slot < slotIndexes.length && slotIndexes[slot] != -1) {
+			final Page<T> page = cache.get(getPage(clicker));
+			final int index = slotIndexes[slot];
+			if (page != null && index < page.entries.size())
+				onEntryClick(clicker, page.entries.get(index), event);
+			return false;
+		}
+		return ActionGUI.super.onClick(clicker, inv, event);
+	}
+
+	@Override
+	public boolean onClose(@Nonnull Player player, @Nullable Event event) {
+		final UUID uuid = player.getUniqueId();
+		// Opening this GUI again closes the previous inventory after onOpen, which must be kept.
+		if (event instanceof InventoryCloseEvent close && !close.getInventory().equals(inventories.get(uuid)))
+			return true;
+		inventories.remove(uuid);
+		pages.remove(uuid);
+		return true;
+	}
+
+	/*
+	 * Pages
+	 */
+
+	/**
+	 * Gets the amount of entries displayed per page.
+	 *
+	 * @return The amount of entries displayed per page.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	public int getPageSize() {
+		return contentSlots.length;
+	}
+
+	/**
+	 * Gets the amount of pages of this {@link PaginatedGUI}, which is
+	 * always at least one, even if the {@link Source} is empty.
+	 * <p>
+	 * Asynchronous {@link PaginatedGUI PaginatedGUIs} don't query the {@link Source}
+	 * here, but use the size loaded along with the last page, so the amount of pages
+	 * is one until the first page loads.
+	 *
+	 * @return The amount of pages of this {@link PaginatedGUI}.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	public int getPageCount() {
+		final int size = async ? loadedSize : source.size();
+		return Math.max(1, (size + contentSlots.length - 1) / contentSlots.length);
+	}
+
+	/**
+	 * Gets the page a <b>player</b> is currently viewing.
+	 *
+	 * @param player the {@link Player} to check.
+	 *
+	 * @return The page the <b>player</b> is currently viewing, starting at zero,
+	 * or -1 if the <b>player</b> isn't viewing this {@link GUI}.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	public int getPage(@Nonnull Player player) {
+		return pages.getOrDefault(player.getUniqueId(), -1);
+	}
+
+	/**
+	 * Shows a <b>page</b> to a <b>player</b> that is viewing this {@link GUI}.
+	 * If the <b>page</b> isn't cached, it is loaded from the {@link Source},
+	 * displaying placeholders until it loads if this {@link GUI} is asynchronous.
+	 *
+	 * @param player the {@link Player} to show the <b>page</b> to.
+	 * @param page the page to show, clamped to the existing pages.
+	 *
+	 * @return {@code true} if the <b>page</b> has been shown, {@code false}
+	 * if the <b>player</b> isn't viewing this {@link GUI}.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	public boolean showPage(@Nonnull Player player, int page) {
+		final Inventory inv = inventories.get(player.getUniqueId());
+		if (inv == null)
+			return false;
+		final int pageCount = getPageCount();
+		page = Math.max(0, Math.min(page, pageCount - 1));
+		pages.put(player.getUniqueId(), page);
+		final Page<T> loaded = getOrLoad(page);
+		if (loaded == null) {
+			for (int slot : contentSlots)
+				inv.setItem(slot, getPlaceholder(slot));
+		} else {
+			apply(inv, loaded);
+		}
+		onPageShown(player, inv, page, pageCount);
+		return true;
+	}
+
+	/**
+	 * Shows the next page to a <b>player</b>, if any.
+	 *
+	 * @param player the {@link Player} to show the next page to.
+	 *
+	 * @return {@code true} if the page has been shown, {@code false} if the <b>player</b>
+	 * isn't viewing this {@link GUI} or is already on the last page.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	public boolean nextPage(@Nonnull Player player) {
+		final int page = getPage(player);
+		return page != -1 && page + 1 < getPageCount() && showPage(player, page + 1);
+	}
+
+	/**
+	 * Shows the previous page to a <b>player</b>, if any.
+	 *
+	 * @param player the {@link Player} to show the previous page to.
+	 *
+	 * @return {@code true} if the page has been shown, {@code false} if the <b>player</b>
+	 * isn't viewing this {@link GUI} or is already on the first page.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	public boolean previousPage(@Nonnull Player player) {
+		final int page = getPage(player);
+		return page > 0 && showPage(player, page - 1);
+	}
+
+	/**
+	 * Discards every cached page and shows the current page of every viewer
+	 * again, which should be called whenever the {@link Source} changes.
+	 * Asynchronous loads that started before calling this method are discarded.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	public void refresh() {
+		generation++;
+		cache.clear();
+		loading.clear();
+		for (UUID uuid : inventories.keySet().toArray(new UUID[0])) {
+			final Player player = Bukkit.getPlayer(uuid);
+			if (player != null)
+				showPage(player, getPage(player));
+		}
+	}
+
+	/*
+	 * Loading
+	 */
+
+	@Nullable
+	private Page<T> getOrLoad(int page) {
+		final Page<T> cached = cache.get(page);
+		if (cached != null || loading.contains(page))
+			return cached;
+		final int from = page * contentSlots.length;
+		if (!async) {
+			final int to = Math.min(from + contentSlots.length, source.size());
+			final Page<T> loaded = renderPage(from >= to ? List.of() : source.getRange(from, to));
+			cache.put(page, loaded);
+			return loaded;
+		}
+		loading.add(page);
+		final int loadGeneration = generation;
+		scheduler.runAsync(() -> {
+			final int size;
+			final List<T> entries;
+			try {
+				size = source.size();
+				final int to = Math.min(from + contentSlots.length, size);
+				entries = from >= to ? List.of() : source.getRange(from, to);
+			} catch (RuntimeException e) {
+				scheduler.getPlugin().getLogger().log(Level.SEVERE, "Could not load page " + page + " of a PaginatedGUI", e);
+				scheduler.runSync(() -> onLoadFailed(page, loadGeneration));
+				return;
+			}
+			scheduler.runSync(() -> onLoad(page, loadGeneration, size, entries));
+		});
+		return null;
+	}
+
+	/* Allows the page to be loaded again the next time it is shown, placeholders are kept until then. */
+	private void onLoadFailed(int page, int loadGeneration) {
+		if (loadGeneration == generation)
+			loading.remove(page);
+	}
+
+	private void onLoad(int page, int loadGeneration, int size, @Nonnull List<T> entries) {
+		if (loadGeneration != generation)
+			return;
+		loading.remove(page);
+		loadedSize = size;
+		final Page<T> loaded = renderPage(entries);
+		cache.put(page, loaded);
+		final int pageCount = getPageCount();
+		for (UUID uuid : pages.keySet().toArray(new UUID[0])) {
+			if (pages.get(uuid) != page)
+				continue;
+			final Inventory inv = inventories.get(uuid);
+			apply(inv, loaded);
+			// The amount of pages may have changed, so navigation buttons are updated.
+			final Player player = Bukkit.getPlayer(uuid);
+			if (player != null)
+				onPageShown(player, inv, page, pageCount);
+		}
+	}
+
+	@Nonnull
+	private Page<T> renderPage(@Nonnull List<T> entries) {
+		final int size = Math.min(entries.size(), contentSlots.length);
+		final ItemStack[] items = new ItemStack[size];
+		for (int i = 0; i < size; i++)
+			items[i] = render(entries.get(i));
+		return new Page<>(List.copyOf(entries.subList(0, size)), items);
+	}
+
+	private void apply(@Nonnull Inventory inv, @Nonnull Page<T> page) {
+		for (int i = 0; i < contentSlots.length; i++)
+			inv.setItem(contentSlots[i], i < page.items.length ? page.items[i] : null);
+	}
+
+	private record Page<T>(@Nonnull List<T> entries, @Nonnull ItemStack[] items) {}
+
+	/**
+	 * A virtual source of entries for a {@link PaginatedGUI}. Entries are
+	 * requested page by page, so sources don't need to keep every entry in memory.
+	 *
+	 * @param <T> the type of the entries of this {@link Source}.
+	 *
+	 * @author xDec0de_
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	public interface Source<T> {
+
+		/**
+		 * Gets the amount of entries of this {@link Source}. Synchronous {@link PaginatedGUI
+		 * PaginatedGUIs} call this on the main thread whenever a page is shown, so it should
+		 * be fast there. Asynchronous ones call it along with {@link #getRange(int, int)}
+		 * every time a page is loaded, in which case this method must be thread safe.
+		 *
+		 * @return The amount of entries of this {@link Source}.
+		 *
+		 * @since SkyUtils 1.0.0
+		 */
+		int size();
+
+		/**
+		 * Gets the entries from index <b>from</b>, inclusive, to index <b>to</b>,
+		 * exclusive. This is called asynchronously if the {@link PaginatedGUI} is
+		 * asynchronous, in which case this method must be thread safe.
+		 *
+		 * @param from the index of the first entry, inclusive.
+		 * @param to the index of the last entry, exclusive.
+		 *
+		 * @return The entries of the range, entries past the
+		 * requested range are ignored.
+		 *
+		 * @since SkyUtils 1.0.0
+		 */
+		@Nonnull
+		List<T> getRange(int from, int to);
+
+		/**
+		 * Creates a {@link Source} backed by a {@link List}. Changes to the
+		 * {@link List} are reflected by the {@link Source}, so the {@link List}
+		 * must be thread safe if used asynchronously.
+		 *
+		 * @param list the {@link List} to use.
+		 *
+		 * @return A new {@link Source} backed by <b>list</b>.
+		 *
+		 * @param <T> the type of the entries of the <b>list</b>.
+		 *
+		 * @throws NullPointerException if <b>list</b> is {@code null}.
+		 *
+		 * @since SkyUtils 1.0.0
+		 */
+		@Nonnull
+		static <T> Source<T> of(@Nonnull List<T> list) {
+			Objects.requireNonNull(list, "list cannot be null.");
+			return new Source<>() {
+				@Override
+				public int size() {
+					return list.size();
+				}
+
+				@Nonnull
+				@Override
+				public List<T> getRange(int from, int to) {
+					return list.subList(from, Math.min(to, list.size()));
+				}
+			};
+		}
+	}
+}
@@ -0,0 +1,240 @@
+package net.codersky.skyutils.spigot.gui;
+
+import org.bukkit.entity.Player;
+import org.bukkit.event.Event;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.ItemStack;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import java.util.HashMap;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * A {@link GUI} that shares one {@link Inventory} between every {@link Player}
+ * viewing the same content, instead of creating an {@link Inventory} per
+ * {@link Player}. Each {@link Player} is mapped to a view key with
+ * {@link #getViewKey(Player)}, and players with {@link Object#equals(Object) equal}
+ * keys share the same view. For example, a shop menu that looks the same for
+ * everyone can always return the same key, while a menu that depends on the
+ * rank of the {@link Player} can return said rank, creating one view per rank
+ * instead of one per {@link Player}.
+ * <p>
+ * Views are created with {@link #createInventory(Object)} the first time they are
+ * needed and are discarded once nobody is viewing them. Content changes are applied
+ * with {@link #setItem(int, ItemStack)} or {@link #update(Function)}, which compare
+ * the new items with the current ones and only update the slots that changed, without
+ * rebuilding nor reopening any {@link Inventory}. Items are compared with the current
+ * content of the {@link Inventory}, so changes made by players or by other code are
+ * taken into account.
+ * <p>
+ * If the view key of a {@link Player} changes, {@link GUIHandler#openGUI(GUI, Player, Event) open}
+ * this {@link GUI} to the {@link Player} again to move them to their new view. This class
+ * isn't thread safe and is meant to be used on the main thread, like any {@link Inventory}.
+ *
+ * @param <K> the type of the view keys of this {@link SharedGUI}.
+ *
+ * @author xDec0de_
+ *
+ * @since SkyUtils 1.0.0
+ */
+public abstract class SharedGUI<K> implements GUI {
+
+	private final HashMap<K, View> views = new HashMap<>();
+
+	/**
+	 * Gets the view key of a {@link Player}. Players with
+	 * {@link Object#equals(Object) equal} keys share the same view.
+	 *
+	 * @param player the {@link Player} that is opening this {@link GUI}.
+	 *
+	 * @return The view key of the <b>player</b>.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	@Nonnull
+	protected abstract K getViewKey(@Nonnull Player player);
+
+	/**
+	 * Creates the {@link Inventory} of a view, with its current content. This is only
+	 * called when a {@link Player} opens this {@link GUI} and no {@link Player} is viewing
+	 * the view of <b>key</b>.
+	 *
+	 * @param key the key of the view to create.
+	 *
+	 * @return The {@link Inventory} of the view, which may be {@code null}
+	 * so that this {@link GUI} isn't opened.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	@Nullable
+	protected abstract Inventory createInventory(@Nonnull K key);
+
+	/**
+	 * Gets the shared {@link Inventory} of the view of the <b>player</b>, creating it
+	 * with {@link #createInventory(Object)} if no {@link Player} is currently viewing it.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	@Nullable
+	@Override
+	public final Inventory onOpen(@Nonnull Player player, @Nullable Event event) {
+		prune();
+		final K key = Objects.requireNonNull(getViewKey(player), "View key cannot be null");
+		View view = views.get(key);
+		if (view == null) {
+			final Inventory inv = createInventory(key);
+			if (inv == null)
+				return null;
+			view = new View(inv);
+			views.put(key, view);
+		}
+		return view.inv;
+	}
+
+	private void prune() {
+		views.values().removeIf(view -> view.inv.getViewers().isEmpty());
+	}
+
+	/*
+	 * Views
+	 */
+
+	/**
+	 * Gets the amount of views of this {@link SharedGUI}, which is the
+	 * amount of {@link Inventory inventories} that are being shared.
+	 *
+	 * @return The amount of views of this {@link SharedGUI}.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	public int getViewCount() {
+		prune();
+		return views.size();
+	}
+
+	/**
+	 * Gets the {@link Inventory} of the view of <b>key</b>, if any {@link Player} is viewing it.
+	 *
+	 * @param key the key of the view.
+	 *
+	 * @return The {@link Inventory} of the view of <b>key</b>, {@code null} if there is no such view.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	@Nullable
+	public Inventory getInventory(@Nonnull K key) {
+		prune();
+		final View view = views.get(key);
+		return view == null ? null : view.inv;
+	}
+
+	/*
+	 * Content updates
+	 */
+
+	/**
+	 * Sets the item of a <b>slot</b> on every view of this {@link SharedGUI}.
+	 * Views that already have an equal item on said <b>slot</b> aren't updated.
+	 *
+	 * @param slot the slot to set.
+	 * @param item the new item of the <b>slot</b>, {@code null} to remove it.
+	 *
+	 * @return This {@link SharedGUI}.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	@Nonnull
+	public SharedGUI<K> setItem(int slot, @Nullable ItemStack item) {
+		prune();
+		for (View view : views.values())
+			view.setItem(slot, item);
+		return this;
+	}
+
+	/**
+	 * Sets the item of a <b>slot</b> on the view of <b>key</b>, if any {@link Player}
+	 * is viewing it. Nothing is done if the view already has an equal item on said <b>slot</b>.
+	 *
+	 * @param key the key of the view to update.
+	 * @param slot the slot to set.
+	 * @param item the new item of the <b>slot</b>, {@code null} to remove it.
+	 *
+	 * @return This {@link SharedGUI}.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	@Nonnull
+	public SharedGUI<K> setItem(@Nonnull K key, int slot, @Nullable ItemStack item) {
+		prune();
+		final View view = views.get(key);
+		if (view != null)
+			view.setItem(slot, item);
+		return this;
+	}
+
+	/**
+	 * Updates the contents of the view of <b>key</b>, if any {@link Player} is viewing it.
+	 * Only the slots whose item changed are updated. Slots beyond the length of
+	 * <b>contents</b> are left untouched.
+	 *
+	 * @param key the key of the view to update.
+	 * @param contents the new contents of the view.
+	 *
+	 * @return This {@link SharedGUI}.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	@Nonnull
+	public SharedGUI<K> update(@Nonnull K key, @Nonnull ItemStack[] contents) {
+		prune();
+		final View view = views.get(key);
+		if (view != null)
+			view.setContents(contents);
+		return this;
+	}
+
+	/**
+	 * Updates the contents of every view of this {@link SharedGUI}. The <b>renderer</b>
+	 * is called once per view, and only the slots whose item changed are updated. Slots
+	 * beyond the length of the rendered contents are left untouched.
+	 *
+	 * @param renderer the function that provides the new contents of the view of a key.
+	 *
+	 * @return This {@link SharedGUI}.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	@Nonnull
+	public SharedGUI<K> update(@Nonnull Function<K, ItemStack[]> renderer) {
+		prune();
+		views.forEach((key, view) -> view.setContents(renderer.apply(key)));
+		return this;
+	}
+
+	private static final class View {
+
+		private final Inventory inv;
+		private final int size;
+
+		View(@Nonnull Inventory inv) {
+			this.inv = inv;
+			this.size = inv.getSize();
+		}
+
+		void setItem(int slot, @Nullable ItemStack item) {
+			// Compared with the inventory itself, as players or other code may have changed it.
+			if (slot < 0 || slot >= size || Objects.equals(inv.getItem(slot), item))
+				return;
+			inv.setItem(slot, item);
+		}
+
+		void setContents(@Nonnull ItemStack[] items) {
+			final int length = Math.min(items.length, size);
+			for (int slot = 0; slot < length; slot++)
+				setItem(slot, items[slot]);
+		}
+	}
+}
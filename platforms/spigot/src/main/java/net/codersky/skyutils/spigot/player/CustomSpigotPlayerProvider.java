@@ -18,6 +18,14 @@ import java.util.concurrent.TimeUnit;
 public abstract class CustomSpigotPlayerProvider<ON extends SpigotPlayer, OFF extends OfflineSpigotPlayer>
 		extends PlayerProvider<Player, ON, OfflinePlayer, OFF> implements Listener {
 
+	protected CustomSpigotPlayerProvider() {
+		super();
+	}
+
+	protected CustomSpigotPlayerProvider(boolean concurrent) {
+		super(concurrent);
+	}
+
 	@NotNull
 	@Override
 	public UUID getOnlineUUID(@NotNull Player on) {
@@ -42,8 +50,7 @@ public abstract class CustomSpigotPlayerProvider<ON extends SpigotPlayer, OFF ex
 	}
 
 	@Override
-	protected void scheduleOfflineRemoval(@NotNull UUID uuid) {
-		SkyUtilsSpigot.getInstance().getScheduler()
-				.delaySync(() -> offlineCache.remove(uuid), TimeUnit.MINUTES, 20);
+	protected void scheduleOfflineSweeper(@NotNull Runnable sweeper) {
+		SkyUtilsSpigot.getInstance().getScheduler().repeatAsync(sweeper, TimeUnit.MINUTES, 1, 1);
 	}
 }
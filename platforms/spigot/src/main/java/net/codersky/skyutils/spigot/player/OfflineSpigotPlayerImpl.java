@@ -1,11 +1,13 @@
 package net.codersky.skyutils.spigot.player;
 
+import net.codersky.skyutils.crossplatform.player.PlayerAttachments;
 import org.bukkit.OfflinePlayer;
 import org.jetbrains.annotations.NotNull;
 
 public class OfflineSpigotPlayerImpl implements OfflineSpigotPlayer {
 
 	private final OfflinePlayer handle;
+	private final PlayerAttachments attachments = new PlayerAttachments();
 
 	protected OfflineSpigotPlayerImpl(@NotNull OfflinePlayer handle) {
 		this.handle = handle;
@@ -16,4 +18,10 @@ public class OfflineSpigotPlayerImpl implements OfflineSpigotPlayer {
 	public OfflinePlayer getHandle() {
 		return handle;
 	}
+
+	@NotNull
+	@Override
+	public PlayerAttachments getAttachments() {
+		return attachments;
+	}
 }
@@ -5,6 +5,10 @@ import org.jetbrains.annotations.NotNull;
 
 public class SpigotPlayerProvider extends CustomSpigotPlayerProvider<SpigotPlayerImpl, OfflineSpigotPlayerImpl> {
 
+	public SpigotPlayerProvider() {
+		super(true);
+	}
+
 	@NotNull
 	@Override
 	protected SpigotPlayerImpl buildOnline(@NotNull Player player) {
@@ -0,0 +1,138 @@
+package net.codersky.skyutils.spigot.regions;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Open addressing hash map from a packed chunk key to the {@link Region regions}
+ * that overlap that chunk, used by {@link RegionIndex}. Keys are primitive
+ * {@code long} values, so lookups never box or allocate. Collisions are resolved
+ * with linear probing and removals use backward shift deletion.
+ * <p>
+ * Bucket arrays are never modified once stored, every change stores a new
+ * array instead. This allows {@link #copy() copies} to share buckets.
+ *
+ * @since SkyUtils v1.0.0
+ *
+ * @author xDec0de_
+ */
+final class ChunkRegionMap {
+
+	private static final int MIN_CAPACITY = 64;
+
+	private long[] keys;
+	private Region[][] values;
+	private int mask;
+	private int size = 0;
+
+	ChunkRegionMap() {
+		allocate(MIN_CAPACITY);
+	}
+
+	private ChunkRegionMap(@Nonnull ChunkRegionMap other) {
+		this.keys = other.keys.clone();
+		this.values = other.values.clone();
+		this.mask = other.mask;
+		this.size = other.size;
+	}
+
+	private void allocate(int capacity) {
+		keys = new long[capacity];
+		values = new Region[capacity][];
+		mask = capacity - 1;
+	}
+
+	static long key(int chunkX, int chunkZ) {
+		return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+	}
+
+	private static int hash(long key) {
+		key ^= key >>> 33;
+		key *= 0xff51afd7ed558ccdL;
+		key ^= key >>> 33;
+		return (int) key;
+	}
+
+	int size() {
+		return size;
+	}
+
+	@Nullable
+	Region[] get(long key) {
+		int i = hash(key) & mask;
+		Region[] value;
+		while ((value = values[i]) != null) {
+			if (keys[i] == key)
+				return value;
+			i = (i + 1) & mask;
+		}
+		return null;
+	}
+
+	/** Stores {@code value} for {@code key}, removing the key if {@code value} is empty. */
+	void put(long key, @Nonnull Region[] value) {
+		if (value.length == 0) {
+			remove(key);
+			return;
+		}
+		int i = hash(key) & mask;
+		while (values[i] != null) {
+			if (keys[i] == key) {
+				values[i] = value;
+				return;
+			}
+			i = (i + 1) & mask;
+		}
+		keys[i] = key;
+		values[i] = value;
+		if (++size > (mask + 1) >> 1)
+			rehash((mask + 1) << 1);
+	}
+
+	void remove(long key) {
+		int i = hash(key) & mask;
+		while (values[i] != null) {
+			if (keys[i] == key) {
+				removeAt(i);
+				return;
+			}
+			i = (i + 1) & mask;
+		}
+	}
+
+	private void removeAt(int hole) {
+		int i = (hole + 1) & mask;
+		while (values[i] != null) {
+			final int home = hash(keys[i]) & mask;
+			if (((i - home) & mask) >= ((i - hole) & mask)) {
+				keys[hole] = keys[i];
+				values[hole] = values[i];
+				hole = i;
+			}
+			i = (i + 1) & mask;
+		}
+		values[hole] = null;
+		size--;
+	}
+
+	private void rehash(int capacity) {
+		final long[] oldKeys = keys;
+		final Region[][] oldValues = values;
+		allocate(capacity);
+		for (int j = 0; j < oldValues.length; j++) {
+			if (oldValues[j] == null)
+				continue;
+			int i = hash(oldKeys[j]) & mask;
+			while (values[i] != null)
+				i = (i + 1) & mask;
+			keys[i] = oldKeys[j];
+			values[i] = oldValues[j];
+		}
+	}
+
+	/** Creates a copy of this map that shares its (Never modified) bucket arrays. */
+	@Nonnull
+	ChunkRegionMap copy() {
+		return new ChunkRegionMap(this);
+	}
+}
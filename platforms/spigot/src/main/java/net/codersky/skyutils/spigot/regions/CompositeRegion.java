@@ -0,0 +1,260 @@
+package net.codersky.skyutils.spigot.regions;
+
+import org.bukkit.World;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * A {@link Region} made of other regions, either as the {@link #union(Region...) union}
+ * of all of them or as the {@link #difference(Region, Region...) difference} between
+ * a base region and other regions. Every part of a {@link CompositeRegion} must be
+ * on the same {@link World}.
+ * <p>
+ * The bounds of a union are the bounding box of all of its parts, while the bounds
+ * of a difference are those of its base region. Parts are only tested when the
+ * coordinates are inside of their own bounds.
+ *
+ * @since SkyUtils v1.0.0
+ *
+ * @author xDec0de_
+ */
+public class CompositeRegion implements Region {
+
+	private final World world;
+	private final boolean union;
+	/* On differences, the first region is the base region. */
+	private final Region[] parts;
+	private final int minX, maxX, minY, maxY, minZ, maxZ;
+
+	private CompositeRegion(boolean union, @Nonnull Region[] parts) {
+		this.union = union;
+		this.parts = parts;
+		this.world = Objects.requireNonNull(parts[0].getWorld(), "Region world cannot be null");
+		for (Region part : parts)
+			if (!world.equals(part.getWorld()))
+				throw new IllegalArgumentException("Every part of a composite region must be on the same world");
+		if (union) {
+			int minX = Integer.MAX_VALUE, minY = Integer.MAX_VALUE, minZ = Integer.MAX_VALUE;
+			int maxX = Integer.MIN_VALUE, maxY = Integer.MIN_VALUE, maxZ = Integer.MIN_VALUE;
+			for (Region part : parts) {
+				minX = Math.min(minX, part.getMinX());
+				minY = Math.min(minY, part.getMinY());
+				minZ = Math.min(minZ, part.getMinZ());
+				maxX = Math.max(maxX, part.getMaxX());
+				maxY = Math.max(maxY, part.getMaxY());
+				maxZ = Math.max(maxZ, part.getMaxZ());
+			}
+			this.minX = minX;
+			this.minY = minY;
+			this.minZ = minZ;
+			this.maxX = maxX;
+			this.maxY = maxY;
+			this.maxZ = maxZ;
+		} else {
+			final Region base = parts[0];
+			this.minX = base.getMinX();
+			this.minY = base.getMinY();
+			this.minZ = base.getMinZ();
+			this.maxX = base.getMaxX();
+			this.maxY = base.getMaxY();
+			this.maxZ = base.getMaxZ();
+		}
+	}
+
+	/**
+	 * Creates a {@link CompositeRegion} that contains every block
+	 * contained by any of the specified {@code regions}.
+	 *
+	 * @param regions the regions to join.
+	 *
+	 * @return A new {@link CompositeRegion}.
+	 *
+	 * @throws NullPointerException If {@code regions} or any of its elements are {@code null}.
+	 * @throws IllegalArgumentException If {@code regions} is empty or if any
+	 * region is on a different {@link World}.
+	 *
+	 * @since SkyUtils v1.0.0
+	 */
+	@Nonnull
+	public static CompositeRegion union(@Nonnull Region... regions) {
+		if (regions.length == 0)
+			throw new IllegalArgumentException("A union needs at least one region");
+		return new CompositeRegion(true, regions.clone());
+	}
+
+	/**
+	 * Creates a {@link CompositeRegion} that contains every block contained
+	 * by {@code base} that isn't contained by any of the {@code subtracted} regions.
+	 *
+	 * @param base the base region.
+	 * @param subtracted the regions to subtract from {@code base}.
+	 *
+	 * @return A new {@link CompositeRegion}.
+	 *
+	 * @throws NullPointerException If any region is {@code null}.
+	 * @throws IllegalArgumentException If any region is on a different {@link World} than {@code base}.
+	 *
+	 * @since SkyUtils v1.0.0
+	 */
+	@Nonnull
+	public static CompositeRegion difference(@Nonnull Region base, @Nonnull Region... subtracted) {
+		final Region[] parts = new Region[subtracted.length + 1];
+		parts[0] = Objects.requireNonNull(base, "Base region cannot be null");
+		System.arraycopy(subtracted, 0, parts, 1, subtracted.length);
+		return new CompositeRegion(false, parts);
+	}
+
+	/*
+	 * Getters
+	 */
+
+	@Nonnull
+	@Override
+	public World getWorld() {
+		return world;
+	}
+
+	/**
+	 * Checks if this {@link CompositeRegion} is a union. If not,
+	 * this {@link CompositeRegion} is a difference.
+	 *
+	 * @return {@code true} if this {@link CompositeRegion} is a union, {@code false} otherwise.
+	 *
+	 * @since SkyUtils v1.0.0
+	 */
+	public boolean isUnion() {
+		return union;
+	}
+
+	/**
+	 * Gets a copy of the parts of this {@link CompositeRegion}. On
+	 * differences, the first element is the base region.
+	 *
+	 * @return A copy of the parts of this {@link CompositeRegion}.
+	 *
+	 * @since SkyUtils v1.0.0
+	 */
+	@Nonnull
+	public Region[] getParts() {
+		return parts.clone();
+	}
+
+	@Override
+	public int getMinX() {
+		return minX;
+	}
+
+	@Override
+	public int getMinY() {
+		return minY;
+	}
+
+	@Override
+	public int getMinZ() {
+		return minZ;
+	}
+
+	@Override
+	public int getMaxX() {
+		return maxX;
+	}
+
+	@Override
+	public int getMaxY() {
+		return maxY;
+	}
+
+	@Override
+	public int getMaxZ() {
+		return maxZ;
+	}
+
+	/*
+	 * Contains
+	 */
+
+	private static boolean partContains(@Nonnull Region part, int x, int y, int z) {
+		return x >= part.getMinX() && x <= part.getMaxX()
+				&& y >= part.getMinY() && y <= part.getMaxY()
+				&& z >= part.getMinZ() && z <= part.getMaxZ()
+				&& part.contains(x, y, z);
+	}
+
+	@Override
+	public boolean contains(int x, int y, int z) {
+		if (union) {
+			for (Region part : parts)
+				if (partContains(part, x, y, z))
+					return true;
+			return false;
+		}
+		if (!partContains(parts[0], x, y, z))
+			return false;
+		for (int i = 1; i < parts.length; i++)
+			if (partContains(parts[i], x, y, z))
+				return false;
+		return true;
+	}
+
+	@Override
+	public boolean containsColumn(int x, int z) {
+		if (!union) // Removed parts may only remove some blocks of the column.
+			return parts[0].containsColumn(x, z);
+		for (Region part : parts)
+			if (part.containsColumn(x, z))
+				return true;
+		return false;
+	}
+
+	@Override
+	public boolean overlaps(@Nonnull Region region) {
+		if (!union) {
+			if (!parts[0].overlaps(region))
+				return false;
+			// Removed parts that don't overlap with the region can't remove any block that both share.
+			for (int i = 1; i < parts.length; i++)
+				if (parts[i].overlaps(region))
+					return Region.super.overlaps(region);
+			return true;
+		}
+		// A union overlaps with a region if any of its parts does.
+		for (Region part : parts)
+			if (part.overlaps(region))
+				return true;
+		return false;
+	}
+
+	/*
+	 * Object methods
+	 */
+
+	@Override
+	public boolean equals(@Nullable Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null || obj.getClass() != getClass())
+			return false;
+		final CompositeRegion other = (CompositeRegion) obj;
+		return union == other.union && Arrays.equals(parts, other.parts);
+	}
+
+	/**
+	 * Returns a string representation of this {@link CompositeRegion} following this format:
+	 * <p>
+	 * "CompositeRegion[union, parts:[...]]" or "CompositeRegion[difference, parts:[...]]";
+	 *
+	 * @return A string representation of this {@link CompositeRegion}.
+	 */
+	@Override
+	public String toString() {
+		return "CompositeRegion[" + (union ? "union" : "difference") + ", parts:" + Arrays.toString(parts) + "]";
+	}
+
+	@Override
+	public int hashCode() {
+		return 31 * Boolean.hashCode(union) + Arrays.hashCode(parts);
+	}
+}
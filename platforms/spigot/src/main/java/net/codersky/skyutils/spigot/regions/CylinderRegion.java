@@ -0,0 +1,261 @@
+package net.codersky.skyutils.spigot.regions;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Objects;
+
+/**
+ * A {@link Region} shaped as a vertical cylinder. A block is inside
+ * of the cylinder if its horizontal distance to the center block is
+ * lower or equal to the radius of the cylinder and its Y coordinate
+ * is between the Y limits of the cylinder.
+ *
+ * @since SkyUtils v1.0.0
+ *
+ * @author xDec0de_
+ */
+public class CylinderRegion implements Region {
+
+	private final World world;
+	private final int centerX;
+	private final int centerZ;
+	private final double radius;
+	private final double radiusSquared;
+	private final int minY;
+	private final int maxY;
+	private final int blockRadius;
+
+	/**
+	 * Creates a {@link CylinderRegion} by integer coordinates.
+	 *
+	 * @param world the {@link World} this region will be in.
+	 * @param centerX the X coordinate of the center block.
+	 * @param centerZ the Z coordinate of the center block.
+	 * @param radius the radius of the cylinder, in blocks.
+	 * @param y1 the first Y coordinate limit of the cylinder.
+	 * @param y2 the second Y coordinate limit of the cylinder.
+	 *
+	 * @throws NullPointerException If {@code world} is {@code null}.
+	 * @throws IllegalArgumentException If {@code radius} is negative or not finite.
+	 *
+	 * @since SkyUtils v1.0.0
+	 *
+	 * @see #CylinderRegion(Location, double, int, int)
+	 */
+	public CylinderRegion(@Nonnull World world, int centerX, int centerZ, double radius, int y1, int y2) {
+		this.world = Objects.requireNonNull(world, "World cannot be null");
+		if (!(radius >= 0) || Double.isInfinite(radius))
+			throw new IllegalArgumentException("Radius must be a positive finite number");
+		this.centerX = centerX;
+		this.centerZ = centerZ;
+		this.radius = radius;
+		this.radiusSquared = radius * radius;
+		this.blockRadius = (int) Math.min(Integer.MAX_VALUE / 2, Math.floor(radius));
+		this.minY = Math.min(y1, y2);
+		this.maxY = Math.max(y1, y2);
+	}
+
+	/**
+	 * Creates a {@link CylinderRegion} centered on the block of a {@link Location}.
+	 *
+	 * @param center the {@link Location} of the center block.
+	 * @param radius the radius of the cylinder, in blocks.
+	 * @param y1 the first Y coordinate limit of the cylinder.
+	 * @param y2 the second Y coordinate limit of the cylinder.
+	 *
+	 * @throws NullPointerException If {@code center} or its {@link World} are {@code null}.
+	 * @throws IllegalArgumentException If {@code radius} is negative or not finite.
+	 *
+	 * @since SkyUtils v1.0.0
+	 *
+	 * @see #CylinderRegion(World, int, int, double, int, int)
+	 */
+	public CylinderRegion(@Nonnull Location center, double radius, int y1, int y2) {
+		this(Objects.requireNonNull(center.getWorld(), "Region world cannot be null"),
+				center.getBlockX(), center.getBlockZ(), radius, y1, y2);
+	}
+
+	/*
+	 * Getters
+	 */
+
+	@Nonnull
+	@Override
+	public World getWorld() {
+		return world;
+	}
+
+	/**
+	 * Gets the X coordinate of the center block of this {@link CylinderRegion}.
+	 *
+	 * @return The X coordinate of the center block of this {@link CylinderRegion}.
+	 *
+	 * @since SkyUtils v1.0.0
+	 */
+	public int getCenterX() {
+		return centerX;
+	}
+
+	/**
+	 * Gets the Z coordinate of the center block of this {@link CylinderRegion}.
+	 *
+	 * @return The Z coordinate of the center block of this {@link CylinderRegion}.
+	 *
+	 * @since SkyUtils v1.0.0
+	 */
+	public int getCenterZ() {
+		return centerZ;
+	}
+
+	/**
+	 * Gets the radius of this {@link CylinderRegion}, in blocks.
+	 *
+	 * @return The radius of this {@link CylinderRegion}, in blocks.
+	 *
+	 * @since SkyUtils v1.0.0
+	 */
+	public double getRadius() {
+		return radius;
+	}
+
+	@Override
+	public int getMinX() {
+		return centerX - blockRadius;
+	}
+
+	@Override
+	public int getMinY() {
+		return minY;
+	}
+
+	@Override
+	public int getMinZ() {
+		return centerZ - blockRadius;
+	}
+
+	@Override
+	public int getMaxX() {
+		return centerX + blockRadius;
+	}
+
+	@Override
+	public int getMaxY() {
+		return maxY;
+	}
+
+	@Override
+	public int getMaxZ() {
+		return centerZ + blockRadius;
+	}
+
+	/*
+	 * Contains
+	 */
+
+	@Override
+	public boolean contains(int x, int y, int z) {
+		if (y < minY || y > maxY)
+			return false;
+		return containsColumn(x, z);
+	}
+
+	@Override
+	public boolean containsColumn(int x, int z) {
+		final long dx = (long) x - centerX;
+		final long dz = (long) z - centerZ;
+		return dx * dx + dz * dz <= radiusSquared;
+	}
+
+	/*
+	 * Overlaps
+	 */
+
+	/**
+	 * Checks if this {@link CylinderRegion} overlaps with {@code region}. Overlaps with
+	 * {@link Region2D} and {@link Region3D} are checked by clamping the center of this
+	 * cylinder to the box, which gives the column of the box that is closest to the center.
+	 * Overlaps with other cylinders are rejected if the distance between both centers is
+	 * bigger than the sum of both radii, and accepted if the column in the middle of their
+	 * intersection is inside both. Any other case uses {@link Region#overlaps(Region)}.
+	 *
+	 * @param region the {@link Region} to check.
+	 *
+	 * @return {@code true} if this {@link CylinderRegion} overlaps with {@code region},
+	 * {@code false} otherwise.
+	 *
+	 * @throws NullPointerException if {@code region} is {@code null}
+	 *
+	 * @since SkyUtils v1.0.0
+	 */
+	@Override
+	public boolean overlaps(@Nonnull Region region) {
+		if (!world.equals(region.getWorld()))
+			return false;
+		final boolean box = region instanceof Region2D;
+		if (!box && !(region instanceof CylinderRegion))
+			return Region.super.overlaps(region);
+		final int minY = Math.max(Math.max(this.minY, region.getMinY()), world.getMinHeight());
+		final int maxY = Math.min(Math.min(this.maxY, region.getMaxY()), world.getMaxHeight() - 1);
+		if (minY > maxY)
+			return false;
+		if (box)
+			return contains(Math.clamp(centerX, region.getMinX(), region.getMaxX()), minY,
+					Math.clamp(centerZ, region.getMinZ(), region.getMaxZ()));
+		final CylinderRegion other = (CylinderRegion) region;
+		final double dx = (double) other.centerX - centerX;
+		final double dz = (double) other.centerZ - centerZ;
+		final double distance = Math.sqrt(dx * dx + dz * dz);
+		if (distance > radius + other.radius)
+			return false;
+		// Middle of the segment of the line between both centers that is inside both circles.
+		final double middle = (Math.max(-radius, distance - other.radius) + Math.min(radius, distance + other.radius)) / 2;
+		final double t = distance == 0 ? 0 : middle / distance;
+		final int x = (int) Math.rint(centerX + dx * t);
+		final int z = (int) Math.rint(centerZ + dz * t);
+		return (contains(x, minY, z) && other.contains(x, minY, z)) || Region.super.overlaps(region);
+	}
+
+	/*
+	 * Object methods
+	 */
+
+	@Override
+	public boolean equals(@Nullable Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null || obj.getClass() != getClass())
+			return false;
+		final CylinderRegion other = (CylinderRegion) obj;
+		return world.equals(other.world)
+				&& centerX == other.centerX
+				&& centerZ == other.centerZ
+				&& radius == other.radius
+				&& minY == other.minY
+				&& maxY == other.maxY;
+	}
+
+	/**
+	 * Returns a string representation of this {@link CylinderRegion} following this format:
+	 * <p>
+	 * "CylinderRegion[world:world_name, centerX:X, centerZ:Z, radius:R, minY:Y, maxY:Y]";
+	 *
+	 * @return A string representation of this {@link CylinderRegion}.
+	 */
+	@Override
+	public String toString() {
+		return "CylinderRegion[world:" + world.getName() +
+				", centerX:" + centerX +
+				", centerZ:" + centerZ +
+				", radius:" + radius +
+				", minY:" + minY +
+				", maxY:" + maxY + "]";
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(world, centerX, centerZ, radius, minY, maxY);
+	}
+}
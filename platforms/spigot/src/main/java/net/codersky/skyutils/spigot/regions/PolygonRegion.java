@@ -0,0 +1,329 @@
+package net.codersky.skyutils.spigot.regions;
+
+import org.bukkit.World;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * A {@link Region} shaped as a vertical prism with a polygonal base. The
+ * polygon is defined by the block coordinates of its vertices, in order,
+ * and blocks on its edges are considered to be inside of the region.
+ * Vertices may form any simple polygon, convex or not.
+ * <p>
+ * Edges are precomputed on creation, so {@link #contains(int, int, int)}
+ * first checks the bounding box of the polygon and then runs an integer
+ * ray casting test over the edge table, without allocating. Overlaps with
+ * other polygons and boxes are checked geometrically, see {@link #overlaps(Region)}.
+ *
+ * @since SkyUtils v1.0.0
+ *
+ * @author xDec0de_
+ */
+public class PolygonRegion implements Region {
+
+	private final World world;
+	private final int[] pointsX;
+	private final int[] pointsZ;
+	private final int minX, maxX, minY, maxY, minZ, maxZ;
+
+	/* Edge table, every edge goes from (x1, z1) to (x2, z2) with z1 <= z2. */
+	private final int[] edgeX1, edgeZ1, edgeX2, edgeZ2;
+
+	/**
+	 * Creates a {@link PolygonRegion}.
+	 *
+	 * @param world the {@link World} this region will be in.
+	 * @param pointsX the X coordinates of the vertices of the polygon.
+	 * @param pointsZ the Z coordinates of the vertices of the polygon.
+	 * @param y1 the first Y coordinate limit of the prism.
+	 * @param y2 the second Y coordinate limit of the prism.
+	 *
+	 * @throws NullPointerException If any parameter is {@code null}.
+	 * @throws IllegalArgumentException If the coordinate arrays don't have the same
+	 * length or if the polygon has less than three vertices.
+	 *
+	 * @since SkyUtils v1.0.0
+	 */
+	public PolygonRegion(@Nonnull World world, @Nonnull int[] pointsX, @Nonnull int[] pointsZ, int y1, int y2) {
+		this.world = Objects.requireNonNull(world, "World cannot be null");
+		if (pointsX.length != pointsZ.length)
+			throw new IllegalArgumentException("Coordinate arrays must have the same length");
+		if (pointsX.length < 3)
+			throw new IllegalArgumentException("A polygon needs at least three vertices");
+		this.pointsX = pointsX.clone();
+		this.pointsZ = pointsZ.clone();
+		this.minY = Math.min(y1, y2);
+		this.maxY = Math.max(y1, y2);
+		final int size = pointsX.length;
+		this.edgeX1 = new int[size];
+		this.edgeZ1 = new int[size];
+		this.edgeX2 = new int[size];
+		this.edgeZ2 = new int[size];
+		int minX = Integer.MAX_VALUE, maxX = Integer.MIN_VALUE, minZ = Integer.MAX_VALUE, maxZ = Integer.MIN_VALUE;
+		for (int i = 0; i < size; i++) {
+			final int j = (i + 1) % size;
+			final boolean ordered = this.pointsZ[i] <= this.pointsZ[j];
+			final int from = ordered ? i : j, to = ordered ? j : i;
+			edgeX1[i] = this.pointsX[from];
+			edgeZ1[i] = this.pointsZ[from];
+			edgeX2[i] = this.pointsX[to];
+			edgeZ2[i] = this.pointsZ[to];
+			minX = Math.min(minX, this.pointsX[i]);
+			maxX = Math.max(maxX, this.pointsX[i]);
+			minZ = Math.min(minZ, this.pointsZ[i]);
+			maxZ = Math.max(maxZ, this.pointsZ[i]);
+		}
+		this.minX = minX;
+		this.maxX = maxX;
+		this.minZ = minZ;
+		this.maxZ = maxZ;
+	}
+
+	/*
+	 * Getters
+	 */
+
+	@Nonnull
+	@Override
+	public World getWorld() {
+		return world;
+	}
+
+	/**
+	 * Gets the amount of vertices of the polygon of this {@link PolygonRegion}.
+	 *
+	 * @return The amount of vertices of the polygon of this {@link PolygonRegion}.
+	 *
+	 * @since SkyUtils v1.0.0
+	 */
+	public int getVertexCount() {
+		return pointsX.length;
+	}
+
+	/**
+	 * Gets a copy of the X coordinates of the vertices of this {@link PolygonRegion}.
+	 *
+	 * @return A copy of the X coordinates of the vertices of this {@link PolygonRegion}.
+	 *
+	 * @since SkyUtils v1.0.0
+	 */
+	@Nonnull
+	public int[] getPointsX() {
+		return pointsX.clone();
+	}
+
+	/**
+	 * Gets a copy of the Z coordinates of the vertices of this {@link PolygonRegion}.
+	 *
+	 * @return A copy of the Z coordinates of the vertices of this {@link PolygonRegion}.
+	 *
+	 * @since SkyUtils v1.0.0
+	 */
+	@Nonnull
+	public int[] getPointsZ() {
+		return pointsZ.clone();
+	}
+
+	@Override
+	public int getMinX() {
+		return minX;
+	}
+
+	@Override
+	public int getMinY() {
+		return minY;
+	}
+
+	@Override
+	public int getMinZ() {
+		return minZ;
+	}
+
+	@Override
+	public int getMaxX() {
+		return maxX;
+	}
+
+	@Override
+	public int getMaxY() {
+		return maxY;
+	}
+
+	@Override
+	public int getMaxZ() {
+		return maxZ;
+	}
+
+	/*
+	 * Contains
+	 */
+
+	@Override
+	public boolean contains(int x, int y, int z) {
+		return y >= minY && y <= maxY && containsColumn(x, z);
+	}
+
+	@Override
+	public boolean containsColumn(int x, int z) {
+		if (x < minX || x > maxX || z < minZ || z > maxZ)
+			return false;
+		boolean inside = false;
+		for (int i = 0; i < edgeX1.length; i++) {
+			final long x1 = edgeX1[i], z1 = edgeZ1[i], x2 = edgeX2[i], z2 = edgeZ2[i];
+			// Signed area of (edge, point). Zero means that the point is on the line of the edge.
+			final long cross = (x2 - x1) * (z - z1) - (z2 - z1) * (x - x1);
+			if (cross == 0 && x >= Math.min(x1, x2) && x <= Math.max(x1, x2) && z >= z1 && z <= z2)
+				return true;
+			// Half open on Z so vertices shared by two edges are only counted once.
+			// As z2 > z1, the crossing is at the right of the point when cross > 0.
+			if (z >= z1 && z < z2 && cross > 0)
+				inside = !inside;
+		}
+		return inside;
+	}
+
+	/*
+	 * Overlaps
+	 */
+
+	/**
+	 * Checks if this {@link PolygonRegion} overlaps with {@code region}. Overlaps with other
+	 * polygons, {@link Region2D} and {@link Region3D} are checked on the plane, as all of them
+	 * are vertical prisms: they are accepted if a vertex of either shape is inside the other one,
+	 * and rejected if no edge of this polygon crosses an edge of the other shape either. When edges
+	 * cross, the blocks around each crossing are tested, and only if none of them is inside both
+	 * shapes, which means that the shapes may only share a sliver narrower than a block, the columns
+	 * that both shapes share are tested one by one. Any other shape uses {@link Region#overlaps(Region)}.
+	 *
+	 * @param region the {@link Region} to check.
+	 *
+	 * @return {@code true} if this {@link PolygonRegion} overlaps with {@code region},
+	 * {@code false} otherwise.
+	 *
+	 * @throws NullPointerException if {@code region} is {@code null}
+	 *
+	 * @since SkyUtils v1.0.0
+	 */
+	@Override
+	public boolean overlaps(@Nonnull Region region) {
+		final int[] otherX, otherZ;
+		if (region instanceof PolygonRegion polygon) {
+			otherX = polygon.pointsX;
+			otherZ = polygon.pointsZ;
+		} else if (region instanceof Region2D box) {
+			otherX = new int[] {box.getMinX(), box.getMaxX(), box.getMaxX(), box.getMinX()};
+			otherZ = new int[] {box.getMinZ(), box.getMinZ(), box.getMaxZ(), box.getMaxZ()};
+		} else {
+			return Region.super.overlaps(region);
+		}
+		if (!world.equals(region.getWorld()))
+			return false;
+		if (Math.max(Math.max(minY, region.getMinY()), world.getMinHeight()) > Math.min(Math.min(maxY, region.getMaxY()), world.getMaxHeight() - 1))
+			return false;
+		final int fromX = Math.max(minX, region.getMinX()), toX = Math.min(maxX, region.getMaxX());
+		final int fromZ = Math.max(minZ, region.getMinZ()), toZ = Math.min(maxZ, region.getMaxZ());
+		if (fromX > toX || fromZ > toZ)
+			return false;
+		// Both shapes are prisms sharing part of their height, so only their columns matter from here on.
+		for (int i = 0; i < otherX.length; i++)
+			if (containsColumn(otherX[i], otherZ[i]))
+				return true;
+		for (int i = 0; i < pointsX.length; i++)
+			if (region.containsColumn(pointsX[i], pointsZ[i]))
+				return true;
+		// Without vertices inside the other shape, the shapes can only overlap if their edges cross.
+		boolean crossed = false;
+		for (int i = 0; i < pointsX.length; i++) {
+			final int j = (i + 1) % pointsX.length;
+			for (int k = 0; k < otherX.length; k++) {
+				final int l = (k + 1) % otherX.length;
+				if (!crosses(pointsX[i], pointsZ[i], pointsX[j], pointsZ[j], otherX[k], otherZ[k], otherX[l], otherZ[l]))
+					continue;
+				if (sharesBlockAround(region, pointsX[i], pointsZ[i], pointsX[j], pointsZ[j], otherX[k], otherZ[k], otherX[l], otherZ[l]))
+					return true;
+				crossed = true;
+			}
+		}
+		if (!crossed)
+			return false;
+		for (int x = fromX; x <= toX; x++)
+			for (int z = fromZ; z <= toZ; z++)
+				if (containsColumn(x, z) && region.containsColumn(x, z))
+					return true;
+		return false;
+	}
+
+	/** Checks if the segments (a, b) and (c, d) intersect, which is exact with integer coordinates. */
+	private static boolean crosses(long ax, long az, long bx, long bz, long cx, long cz, long dx, long dz) {
+		if (Math.max(ax, bx) < Math.min(cx, dx) || Math.min(ax, bx) > Math.max(cx, dx)
+				|| Math.max(az, bz) < Math.min(cz, dz) || Math.min(az, bz) > Math.max(cz, dz))
+			return false;
+		final long c1 = Long.signum((bx - ax) * (cz - az) - (bz - az) * (cx - ax));
+		final long c2 = Long.signum((bx - ax) * (dz - az) - (bz - az) * (dx - ax));
+		final long c3 = Long.signum((dx - cx) * (az - cz) - (dz - cz) * (ax - cx));
+		final long c4 = Long.signum((dx - cx) * (bz - cz) - (dz - cz) * (bx - cx));
+		return c1 * c2 <= 0 && c3 * c4 <= 0;
+	}
+
+	/** Tests the four blocks around the point where the segments (a, b) and (c, d) cross. */
+	private boolean sharesBlockAround(@Nonnull Region region, long ax, long az, long bx, long bz, long cx, long cz, long dx, long dz) {
+		final long denominator = (bx - ax) * (dz - cz) - (bz - az) * (dx - cx);
+		// Parallel segments only touch at vertices, which have already been tested.
+		if (denominator == 0)
+			return false;
+		final double t = (double) ((cx - ax) * (dz - cz) - (cz - az) * (dx - cx)) / denominator;
+		final double x = ax + t * (bx - ax), z = az + t * (bz - az);
+		for (int blockX = (int) Math.floor(x); blockX <= (int) Math.ceil(x); blockX++)
+			for (int blockZ = (int) Math.floor(z); blockZ <= (int) Math.ceil(z); blockZ++)
+				if (containsColumn(blockX, blockZ) && region.containsColumn(blockX, blockZ))
+					return true;
+		return false;
+	}
+
+	/*
+	 * Object methods
+	 */
+
+	@Override
+	public boolean equals(@Nullable Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null || obj.getClass() != getClass())
+			return false;
+		final PolygonRegion other = (PolygonRegion) obj;
+		return world.equals(other.world)
+				&& minY == other.minY
+				&& maxY == other.maxY
+				&& Arrays.equals(pointsX, other.pointsX)
+				&& Arrays.equals(pointsZ, other.pointsZ);
+	}
+
+	/**
+	 * Returns a string representation of this {@link PolygonRegion} following this format:
+	 * <p>
+	 * "PolygonRegion[world:world_name, minY:Y, maxY:Y, points:[(X, Z), ...]]";
+	 *
+	 * @return A string representation of this {@link PolygonRegion}.
+	 */
+	@Override
+	public String toString() {
+		final StringBuilder builder = new StringBuilder("PolygonRegion[world:").append(world.getName())
+				.append(", minY:").append(minY)
+				.append(", maxY:").append(maxY)
+				.append(", points:[");
+		for (int i = 0; i < pointsX.length; i++) {
+			if (i != 0)
+				builder.append(", ");
+			builder.append('(').append(pointsX[i]).append(", ").append(pointsZ[i]).append(')');
+		}
+		return builder.append("]]").toString();
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(world, minY, maxY, Arrays.hashCode(pointsX), Arrays.hashCode(pointsZ));
+	}
+}
@@ -74,4 +74,156 @@ public interface Region {
 	public default int getPriority() {
 		return 1;
 	}
+
+	/**
+	 * Checks if this {@link Region} overlaps with {@code region}, that is, if both
+	 * regions contain at least one common block. By default, this method first checks
+	 * that both regions are on the same {@link World} and that their {@link #getMinX() bounds}
+	 * intersect, then tests every block of the intersection of the bounds, clamped to the
+	 * height of the {@link World}, until a block contained by both regions is found. Columns
+	 * that either region doesn't {@link #containsColumn(int, int) contain} are skipped without
+	 * testing their blocks. This is exact for any pair of shapes, but may be slow for big
+	 * regions, so shapes that can check overlaps geometrically should override this method. If the intersection of the bounds
+	 * is unbounded on the X or Z axis, regions are considered to overlap.
+	 *
+	 * @param region the {@link Region} to check.
+	 *
+	 * @return {@code true} if this {@link Region} overlaps with {@code region},
+	 * {@code false} otherwise.
+	 *
+	 * @throws NullPointerException if {@code region} is {@code null}
+	 *
+	 * @since SkyUtils v1.0.0
+	 */
+	public default boolean overlaps(@Nonnull Region region) {
+		final World world = getWorld();
+		if (!world.equals(region.getWorld()))
+			return false;
+		final int minX = Math.max(getMinX(), region.getMinX()), maxX = Math.min(getMaxX(), region.getMaxX());
+		final int minZ = Math.max(getMinZ(), region.getMinZ()), maxZ = Math.min(getMaxZ(), region.getMaxZ());
+		final int minY = Math.max(Math.max(getMinY(), region.getMinY()), world.getMinHeight());
+		final int maxY = Math.min(Math.min(getMaxY(), region.getMaxY()), world.getMaxHeight() - 1);
+		if (minX > maxX || minZ > maxZ || minY > maxY)
+			return false;
+		if (minX == Integer.MIN_VALUE || maxX == Integer.MAX_VALUE || minZ == Integer.MIN_VALUE || maxZ == Integer.MAX_VALUE)
+			return true;
+		for (int x = minX; x <= maxX; x++) {
+			for (int z = minZ; z <= maxZ; z++) {
+				if (!containsColumn(x, z) || !region.containsColumn(x, z))
+					continue;
+				for (int y = minY; y <= maxY; y++)
+					if (contains(x, y, z) && region.contains(x, y, z))
+						return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Checks if this {@link Region} may contain any block of the column at the specified
+	 * {@code x} and {@code z} coordinates. This is used by {@link #overlaps(Region)} to skip
+	 * whole columns instead of testing each of their blocks, so it must only return
+	 * {@code false} if no block of the column is contained. By default, this method only
+	 * checks the {@link #getMinX() bounds} of this {@link Region}, shapes that can tell
+	 * more precisely should override it.
+	 *
+	 * @param x the X coordinate of the column.
+	 * @param z the Z coordinate of the column.
+	 *
+	 * @return {@code false} if this {@link Region} doesn't contain any block
+	 * of the column, {@code true} if it may contain some.
+	 *
+	 * @since SkyUtils v1.0.0
+	 */
+	public default boolean containsColumn(int x, int z) {
+		return x >= getMinX() && x <= getMaxX() && z >= getMinZ() && z <= getMaxZ();
+	}
+
+	/*
+	 * Bounds
+	 */
+
+	/**
+	 * Gets the minimum X coordinate that this {@link Region} may contain.
+	 * Bounds are used by {@link RegionHandler} to only test regions that are
+	 * near a location, so they should be as tight as possible. By default,
+	 * regions are unbounded and this method returns {@link Integer#MIN_VALUE}.
+	 *
+	 * @return The minimum X coordinate that this {@link Region} may contain.
+	 *
+	 * @since SkyUtils v1.0.0
+	 */
+	public default int getMinX() {
+		return Integer.MIN_VALUE;
+	}
+
+	/**
+	 * Gets the minimum Y coordinate that this {@link Region} may contain.
+	 * By default, this method returns {@link Integer#MIN_VALUE}.
+	 *
+	 * @return The minimum Y coordinate that this {@link Region} may contain.
+	 *
+	 * @since SkyUtils v1.0.0
+	 *
+	 * @see #getMinX()
+	 */
+	public default int getMinY() {
+		return Integer.MIN_VALUE;
+	}
+
+	/**
+	 * Gets the minimum Z coordinate that this {@link Region} may contain.
+	 * By default, this method returns {@link Integer#MIN_VALUE}.
+	 *
+	 * @return The minimum Z coordinate that this {@link Region} may contain.
+	 *
+	 * @since SkyUtils v1.0.0
+	 *
+	 * @see #getMinX()
+	 */
+	public default int getMinZ() {
+		return Integer.MIN_VALUE;
+	}
+
+	/**
+	 * Gets the maximum X coordinate that this {@link Region} may contain.
+	 * By default, this method returns {@link Integer#MAX_VALUE}.
+	 *
+	 * @return The maximum X coordinate that this {@link Region} may contain.
+	 *
+	 * @since SkyUtils v1.0.0
+	 *
+	 * @see #getMinX()
+	 */
+	public default int getMaxX() {
+		return Integer.MAX_VALUE;
+	}
+
+	/**
+	 * Gets the maximum Y coordinate that this {@link Region} may contain.
+	 * By default, this method returns {@link Integer#MAX_VALUE}.
+	 *
+	 * @return The maximum Y coordinate that this {@link Region} may contain.
+	 *
+	 * @since SkyUtils v1.0.0
+	 *
+	 * @see #getMinX()
+	 */
+	public default int getMaxY() {
+		return Integer.MAX_VALUE;
+	}
+
+	/**
+	 * Gets the maximum Z coordinate that this {@link Region} may contain.
+	 * By default, this method returns {@link Integer#MAX_VALUE}.
+	 *
+	 * @return The maximum Z coordinate that this {@link Region} may contain.
+	 *
+	 * @since SkyUtils v1.0.0
+	 *
+	 * @see #getMinX()
+	 */
+	public default int getMaxZ() {
+		return Integer.MAX_VALUE;
+	}
 }
@@ -205,9 +205,20 @@ public class Region2D implements Region {
 	 * @see #contains(Region2D)
 	 */
 	public boolean overlaps(@Nonnull Region2D region) {
+		// Bounds are inclusive, so regions that share a single block overlap.
 		return region.getWorld().equals(world) &&
-				!(region.getMinX() >= maxX || region.getMaxX() <= minX ||
-					region.getMinZ() >= maxZ || region.getMaxZ() <= minZ);
+				!(region.getMinX() > maxX || region.getMaxX() < minX ||
+					region.getMinZ() > maxZ || region.getMaxZ() < minZ);
+	}
+
+	@Override
+	public boolean overlaps(@Nonnull Region region) {
+		if (region instanceof Region2D other)
+			return overlaps(other);
+		// These shapes can check overlaps with boxes geometrically.
+		if (region instanceof SphereRegion || region instanceof CylinderRegion || region instanceof PolygonRegion)
+			return region.overlaps(this);
+		return Region.super.overlaps(region);
 	}
 
 	/*
@@ -218,7 +229,7 @@ public class Region2D implements Region {
 	public boolean equals(@Nullable Object obj) {
 		if (this == obj)
 			return true;
-		if (!(obj instanceof Region3D))
+		if (obj == null || obj.getClass() != getClass())
 			return false;
 		final Region2D other = (Region2D) obj;
 		return world.equals(other.world)
@@ -111,9 +111,12 @@ public class Region3D extends Region2D {
 	 */
 	@Override
 	public boolean contains(@Nonnull Region2D region) {
+		if (region instanceof Region3D region3D)
+			return contains(region3D);
+		// 2D regions span the whole height of the world.
 		return region.getWorld().equals(world) &&
 				region.getMinX() >= minX && region.getMaxX() <= maxX &&
-				world.getMinHeight() >= minY && world.getMaxHeight() <= maxY &&
+				world.getMinHeight() >= minY && world.getMaxHeight() - 1 <= maxY &&
 				region.getMinZ() >= minZ && region.getMaxZ() <= maxZ;
 	}
 
@@ -201,8 +204,10 @@ public class Region3D extends Region2D {
 	 */
 	@Override
 	public boolean overlaps(@Nonnull Region2D region) {
-		final World otherWorld = region.getWorld();
-		return super.overlaps(region) || otherWorld.getMinHeight() >= maxY || otherWorld.getMaxHeight() >= minY;
+		if (region instanceof Region3D region3D)
+			return overlaps(region3D);
+		// 2D regions span the whole height of the world.
+		return super.overlaps(region) && minY < world.getMaxHeight() && maxY >= world.getMinHeight();
 	}
 
 	/**
@@ -222,7 +227,7 @@ public class Region3D extends Region2D {
 	 * @see #overlaps(Region2D)
 	 */
 	public boolean overlaps(@Nonnull Region3D region) {
-		return super.overlaps(region) || region.getMinY() >= maxY || region.getMaxY() >= minY;
+		return super.overlaps(region) && region.getMinY() <= maxY && region.getMaxY() >= minY;
 	}
 
 	/*
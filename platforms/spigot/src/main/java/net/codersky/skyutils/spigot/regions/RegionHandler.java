@@ -1,93 +1,657 @@
 package net.codersky.skyutils.spigot.regions;
 
-import net.codersky.jsky.collections.JCollections;
-import net.codersky.skyutils.spigot.events.player.CancellableMCPlayerEvent;
 import net.codersky.skyutils.spigot.regions.event.RegionEnterEvent;
 import net.codersky.skyutils.spigot.regions.event.RegionEnteringEvent;
 import net.codersky.skyutils.spigot.regions.event.RegionLeaveEvent;
 import net.codersky.skyutils.spigot.regions.event.RegionLeavingEvent;
+import net.codersky.skyutils.spigot.regions.event.RegionTransitionsEvent;
+import net.codersky.skyutils.spigot.time.SpigotTaskScheduler;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.World;
+import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.HandlerList;
 import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerChangedWorldEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
 import org.bukkit.event.player.PlayerMoveEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.event.player.PlayerRespawnEvent;
+import org.bukkit.event.player.PlayerTeleportEvent;
 import org.bukkit.plugin.java.JavaPlugin;
 import org.jetbrains.annotations.ApiStatus;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Queue;
 import java.util.Set;
 import java.util.UUID;
-import java.util.function.Function;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 public class RegionHandler implements Listener {
 
-	private final HashMap<UUID, HashSet<Region>> regions = new HashMap<>();
+	private static final Region[] EMPTY_REGIONS = new Region[0];
+
+	/** Immutable map of immutable snapshots, replaced on every change. */
+	private final AtomicReference<Map<UUID, RegionSnapshot>> worlds = new AtomicReference<>(Map.of());
+	private final Object writeLock = new Object();
+	/** Regions that each online player is inside of, arrays are replaced, never modified. */
+	private final ConcurrentHashMap<UUID, Region[]> members = new ConcurrentHashMap<>();
+
+	/** Transitions waiting for the next {@link RegionTransitionsEvent}, added from every region thread on Folia. */
+	private final Queue<RegionTransitionsEvent.Transition> pendingTransitions = new ConcurrentLinkedQueue<>();
+	private final AtomicBoolean flushScheduled = new AtomicBoolean(false);
+	private SpigotTaskScheduler scheduler = null;
+	private volatile RegionStorage storage = null;
+	/** Runs every storage operation in submission order, off the threads that modify regions. */
+	private final ThreadPoolExecutor storageExecutor = createStorageExecutor();
+
+	@Nonnull
+	private static ThreadPoolExecutor createStorageExecutor() {
+		final ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 30, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), task -> {
+			final Thread thread = new Thread(task, "SkyUtils region storage");
+			thread.setDaemon(true);
+			return thread;
+		});
+		// The thread is only kept alive while there are writes to do.
+		executor.allowCoreThreadTimeOut(true);
+		return executor;
+	}
 
 	public RegionHandler init(@Nonnull JavaPlugin plugin) {
-		Bukkit.getPluginManager().registerEvents(this, plugin);
+		return init(SpigotTaskScheduler.create(plugin));
+	}
+
+	/**
+	 * Registers this {@link RegionHandler} as a {@link Listener} of the {@link JavaPlugin}
+	 * that owns the specified {@code scheduler}, which is then used for every task
+	 * this {@link RegionHandler} needs to schedule.
+	 *
+	 * @param scheduler The {@link SpigotTaskScheduler} to use, usually the one of your
+	 * {@link net.codersky.skyutils.spigot.SpigotUtils SpigotUtils}.
+	 *
+	 * @return This {@link RegionHandler}.
+	 *
+	 * @since SkyUtils v1.0.0
+	 */
+	public RegionHandler init(@Nonnull SpigotTaskScheduler scheduler) {
+		this.scheduler = scheduler;
+		Bukkit.getPluginManager().registerEvents(this, scheduler.getPlugin());
 		return this;
 	}
 
+	/**
+	 * Gets every {@link Region} of the specified {@code world}.
+	 *
+	 * @param world The {@link World} to get the regions from.
+	 *
+	 * @return An unmodifiable {@link Set} with every {@link Region} of {@code world}.
+	 *
+	 * @since SkyUtils v1.0.0
+	 */
 	@Nonnull
 	public Set<Region> getRegionsAt(@Nonnull World world) {
-		final Set<Region> worldRegions = regions.get(world.getUID());
-		return worldRegions == null ? Collections.emptySet() : JCollections.clone(worldRegions);
+		final RegionSnapshot snapshot = worlds.get().get(world.getUID());
+		return snapshot == null ? Collections.emptySet() : snapshot.getRegions();
 	}
 
+	@Nullable
+	private RegionIndex getIndex(@Nonnull Location location) {
+		if (!location.isWorldLoaded() || location.getWorld() == null)
+			return null;
+		final RegionSnapshot snapshot = worlds.get().get(location.getWorld().getUID());
+		return snapshot == null ? null : snapshot.getIndex();
+	}
+
+	/**
+	 * Gets all {@link Region regions} that contain the specified {@code location}.
+	 * Only regions near the {@code location} are tested, as regions are indexed
+	 * by chunk, but this method still creates a new {@link Set} for every call
+	 * that finds any region. {@link #forEachRegionAt(Location, Consumer)},
+	 * {@link #getRegionsAt(Location, Collection)} and {@link #isInRegion(Location)}
+	 * can be used instead for allocation free queries.
+	 *
+	 * @param location The {@link Location} to check.
+	 *
+	 * @return A new {@link Set} with the regions that contain {@code location},
+	 * which may be empty but never {@code null}.
+	 *
+	 * @since SkyUtils v1.0.0
+	 */
 	@Nonnull
 	public Set<Region> getRegionsAt(@Nonnull Location location) {
-		if (!location.isWorldLoaded() || location.getWorld() == null)
+		final RegionIndex index = getIndex(location);
+		if (index == null || !index.isInRegion(location.getBlockX(), location.getBlockY(), location.getBlockZ()))
 			return Collections.emptySet();
-		final Set<Region> worldRegions = getRegionsAt(location.getWorld());
-		final int x = location.getBlockX();
-		final int y = location.getBlockY();
-		final int z = location.getBlockZ();
-		return JCollections.remove(worldRegions, region -> !region.contains(x, y, z));
+		return getRegionsAt(location, new HashSet<>());
+	}
+
+	/**
+	 * Adds all {@link Region regions} that contain the specified {@code location}
+	 * to the {@code destination} {@link Collection}.
+	 *
+	 * @param location The {@link Location} to check.
+	 * @param destination The {@link Collection} to add the regions to.
+	 *
+	 * @return {@code destination}, for convenience.
+	 *
+	 * @param <C> The type of the {@code destination} {@link Collection}.
+	 *
+	 * @since SkyUtils v1.0.0
+	 */
+	@Nonnull
+	public <C extends Collection<? super Region>> C getRegionsAt(@Nonnull Location location, @Nonnull C destination) {
+		final RegionIndex index = getIndex(location);
+		return index == null ? destination : index.collectAt(location.getBlockX(), location.getBlockY(), location.getBlockZ(), destination);
+	}
+
+	/**
+	 * Performs the given {@code action} for every {@link Region} that
+	 * contains the specified {@code location}.
+	 *
+	 * @param location The {@link Location} to check.
+	 * @param action The action to perform on every {@link Region}.
+	 *
+	 * @since SkyUtils v1.0.0
+	 */
+	public void forEachRegionAt(@Nonnull Location location, @Nonnull Consumer<? super Region> action) {
+		final RegionIndex index = getIndex(location);
+		if (index != null)
+			index.forEachAt(location.getBlockX(), location.getBlockY(), location.getBlockZ(), action);
 	}
 
+	/**
+	 * Checks if the specified {@code location} is inside any {@link Region}.
+	 *
+	 * @param location The {@link Location} to check.
+	 *
+	 * @return {@code true} if any {@link Region} contains {@code location}, {@code false} otherwise.
+	 *
+	 * @since SkyUtils v1.0.0
+	 */
+	public boolean isInRegion(@Nonnull Location location) {
+		final RegionIndex index = getIndex(location);
+		return index != null && index.isInRegion(location.getBlockX(), location.getBlockY(), location.getBlockZ());
+	}
+
+	/**
+	 * Gets the {@link Region} with the highest {@link Region#getPriority() priority}
+	 * that contains the specified {@code location}. Regions are kept sorted by priority
+	 * as they are added, so this doesn't sort anything and stops at the first match.
+	 * If multiple regions share the highest priority, smaller regions win, then the
+	 * region that was added first. Priorities are read when a region is added, so
+	 * a {@link Region} must not change its priority after being added.
+	 *
+	 * @param loc The {@link Location} to check.
+	 *
+	 * @return The {@link Region} with the highest priority at {@code loc},
+	 * {@code null} if no region contains it.
+	 *
+	 * @since SkyUtils v1.0.0
+	 */
+	@Nullable
 	public Region getPriorityRegionAt(@Nonnull Location loc) {
-		return null;
+		final RegionIndex index = getIndex(loc);
+		return index == null ? null : index.getPriorityRegionAt(loc.getBlockX(), loc.getBlockY(), loc.getBlockZ());
+	}
+
+	/*
+	 * Registry
+	 */
+
+	/**
+	 * Gets an immutable {@link RegionSnapshot} of the regions of {@code world}.
+	 * Every change to the regions of a {@link World} publishes a new snapshot, so
+	 * this method doesn't copy anything and can be called from any thread.
+	 *
+	 * @param world The {@link World} to get the snapshot of.
+	 *
+	 * @return An immutable {@link RegionSnapshot} of the regions of {@code world}.
+	 *
+	 * @since SkyUtils v1.0.0
+	 */
+	@Nonnull
+	public RegionSnapshot getSnapshot(@Nonnull World world) {
+		final UUID worldId = world.getUID();
+		final RegionSnapshot snapshot = worlds.get().get(worldId);
+		return snapshot == null ? new RegionSnapshot(worldId, new RegionIndex(), Set.of()) : snapshot;
+	}
+
+	/**
+	 * Publishes a new snapshot of the world with the specified {@code worldId},
+	 * with {@code removed} regions removed and then {@code added} regions added.
+	 * Readers are never blocked, writers are serialized.
+	 *
+	 * @return The amount of regions that were actually removed or added.
+	 */
+	private int modify(@Nonnull UUID worldId, @Nonnull Collection<? extends Region> removed, @Nonnull Collection<? extends Region> added) {
+		return modify(worldId, removed, added, true);
+	}
+
+	private int modify(@Nonnull UUID worldId, @Nonnull Collection<? extends Region> removed,
+			@Nonnull Collection<? extends Region> added, boolean store) {
+		synchronized (writeLock) {
+			final Map<UUID, RegionSnapshot> current = worlds.get();
+			final RegionSnapshot snapshot = current.get(worldId);
+			final HashSet<Region> regions = snapshot == null ? new HashSet<>() : new HashSet<>(snapshot.getRegions());
+			final RegionIndex index = snapshot == null ? new RegionIndex() : snapshot.getIndex().copy();
+			final ArrayList<Region> actuallyRemoved = new ArrayList<>(removed.size());
+			final ArrayList<Region> actuallyAdded = new ArrayList<>(added.size());
+			for (Region region : removed) {
+				if (regions.remove(region)) {
+					index.remove(region);
+					actuallyRemoved.add(region);
+				}
+			}
+			for (Region region : added) {
+				if (!region.getWorld().getUID().equals(worldId))
+					throw new IllegalArgumentException("Region " + region + " is not on the world " + worldId);
+				if (regions.add(region)) {
+					index.add(region);
+					actuallyAdded.add(region);
+				}
+			}
+			final int changes = actuallyRemoved.size() + actuallyAdded.size();
+			if (changes == 0)
+				return 0;
+			final HashMap<UUID, RegionSnapshot> updated = new HashMap<>(current);
+			if (regions.isEmpty())
+				updated.remove(worldId);
+			else
+				updated.put(worldId, new RegionSnapshot(worldId, index, Collections.unmodifiableSet(regions)));
+			worlds.set(Collections.unmodifiableMap(updated));
+			if (store)
+				store(worldId, actuallyRemoved, actuallyAdded, regions);
+			return changes;
+		}
 	}
 
+	/**
+	 * Adds a {@link Region} to this {@link RegionHandler}. This method is thread safe,
+	 * but it copies the region set of the {@link Region#getWorld() world} of the
+	 * {@code region}, so {@link #addRegions(Collection)} should be used to add
+	 * many regions at once.
+	 *
+	 * @param region The {@link Region} to add.
+	 *
+	 * @return {@code true} if the {@code region} was added, {@code false} if
+	 * it was already present.
+	 *
+	 * @since SkyUtils v1.0.0
+	 */
 	public boolean addRegion(@Nonnull Region region) {
+		return modify(region.getWorld().getUID(), List.of(), List.of(region)) != 0;
+	}
+
+	/**
+	 * Adds multiple {@link Region regions} to this {@link RegionHandler}, publishing
+	 * a single snapshot per {@link World}. This method is thread safe.
+	 *
+	 * @param regions The regions to add.
+	 *
+	 * @return The amount of regions that were added, ignoring those that were already present.
+	 *
+	 * @since SkyUtils v1.0.0
+	 */
+	public int addRegions(@Nonnull Collection<? extends Region> regions) {
+		final HashMap<UUID, List<Region>> byWorld = new HashMap<>();
+		for (Region region : regions)
+			byWorld.computeIfAbsent(region.getWorld().getUID(), id -> new ArrayList<>()).add(region);
+		int added = 0;
+		for (Map.Entry<UUID, List<Region>> entry : byWorld.entrySet())
+			added += modify(entry.getKey(), List.of(), entry.getValue());
+		return added;
+	}
+
+	/**
+	 * Removes a {@link Region} from this {@link RegionHandler}. Players inside
+	 * of the {@code region} stop being inside of it without calling any
+	 * leave event. This method is thread safe.
+	 *
+	 * @param region The {@link Region} to remove.
+	 *
+	 * @return {@code true} if the {@code region} was removed, {@code false} if
+	 * it wasn't present.
+	 *
+	 * @since SkyUtils v1.0.0
+	 */
+	public boolean removeRegion(@Nonnull Region region) {
+		if (modify(region.getWorld().getUID(), List.of(region), List.of()) == 0)
+			return false;
+		replaceMember(region, null);
+		return true;
+	}
+
+	/**
+	 * Replaces {@code region} with {@code updated} on a single snapshot, which is
+	 * the way to resize or otherwise modify a {@link Region}, as regions are immutable.
+	 * Players inside of {@code region} are considered to be inside of {@code updated}
+	 * without calling any event, and will leave it on their next move if it doesn't
+	 * contain them. This method is thread safe.
+	 *
+	 * @param region The {@link Region} to replace.
+	 * @param updated The {@link Region} to replace {@code region} with.
+	 *
+	 * @return {@code true} if {@code region} was replaced, {@code false} if
+	 * it wasn't present, in which case {@code updated} isn't added.
+	 *
+	 * @throws IllegalArgumentException if both regions aren't on the same {@link World}.
+	 *
+	 * @since SkyUtils v1.0.0
+	 */
+	public boolean updateRegion(@Nonnull Region region, @Nonnull Region updated) {
 		final UUID worldId = region.getWorld().getUID();
-		final HashSet<Region> worldRegions = regions.get(worldId);
-		if (worldRegions == null) {
-			regions.put(worldId, JCollections.asHashSet(region));
-		} else
-			return worldRegions.add(region);
+		if (!worldId.equals(updated.getWorld().getUID()))
+			throw new IllegalArgumentException("Regions must be on the same world to be updated");
+		synchronized (writeLock) {
+			if (!getSnapshot(region.getWorld()).hasRegion(region))
+				return false;
+			modify(worldId, List.of(region), List.of(updated));
+		}
+		replaceMember(region, updated);
 		return true;
 	}
 
+	/*
+	 * Storage
+	 */
+
+	/**
+	 * Sets the {@link RegionStorage} of this {@link RegionHandler}. Every region that is
+	 * added, removed or updated from now on is appended to the storage log automatically,
+	 * as long as {@link RegionStorage#canStore(Region) it can be stored}, and the log is
+	 * merged into the data file of its {@link World} once it grows big enough. Changes are
+	 * encoded right away but written asynchronously, in order, so modifying regions never
+	 * waits for the disk. Use {@link #flushStorage()} to wait for pending writes.
+	 *
+	 * @param storage The {@link RegionStorage} to use, {@code null} to disable storage.
+	 *
+	 * @return This {@link RegionHandler}.
+	 *
+	 * @since SkyUtils v1.0.0
+	 */
+	@Nonnull
+	public RegionHandler setStorage(@Nullable RegionStorage storage) {
+		this.storage = storage;
+		return this;
+	}
+
+	/**
+	 * Loads every stored {@link Region} of the specified {@code world}
+	 * from the {@link #setStorage(RegionStorage) storage} of this {@link RegionHandler}
+	 * and adds them, without logging them again.
+	 *
+	 * @param world The {@link World} to load the regions of.
+	 *
+	 * @return The amount of regions that were added, ignoring those that were already present.
+	 *
+	 * @throws IOException if the regions couldn't be read.
+	 * @throws IllegalStateException if this {@link RegionHandler} has no storage.
+	 *
+	 * @since SkyUtils v1.0.0
+	 */
+	public int loadRegions(@Nonnull World world) throws IOException {
+		final RegionStorage storage = this.storage;
+		if (storage == null)
+			throw new IllegalStateException("This RegionHandler has no storage");
+		// Loaded after pending writes, so the log is complete and isn't merged while being appended to.
+		return modify(world.getUID(), List.of(), await(storageExecutor.submit(() -> storage.load(world))), false);
+	}
+
+	/**
+	 * Saves every {@link Region} of the specified {@code world} to the data file of the
+	 * {@link #setStorage(RegionStorage) storage} of this {@link RegionHandler}, merging its log.
+	 * Regions that {@link RegionStorage#canStore(Region) can't be stored} are skipped.
+	 *
+	 * @param world The {@link World} to save the regions of.
+	 *
+	 * @throws IOException if the regions couldn't be written.
+	 * @throws IllegalStateException if this {@link RegionHandler} has no storage.
+	 *
+	 * @since SkyUtils v1.0.0
+	 */
+	public void saveRegions(@Nonnull World world) throws IOException {
+		final RegionStorage storage = this.storage;
+		if (storage == null)
+			throw new IllegalStateException("This RegionHandler has no storage");
+		final Future<?> save;
+		// Submitted under the lock, so changes made after taking the snapshot are appended after saving it.
+		synchronized (writeLock) {
+			final Set<Region> regions = getSnapshot(world).getRegions();
+			save = storageExecutor.submit((Callable<Void>) () -> {
+				storage.save(world.getUID(), storable(regions));
+				return null;
+			});
+		}
+		await(save);
+	}
+
+	/**
+	 * Waits until every pending change has been written to the {@link #setStorage(RegionStorage)
+	 * storage} of this {@link RegionHandler}. Writes happen on a daemon thread, so this should be
+	 * called when your plugin gets disabled in order to not lose the most recent changes.
+	 *
+	 * @throws IOException if the current thread is interrupted while waiting.
+	 *
+	 * @since SkyUtils v1.0.0
+	 */
+	public void flushStorage() throws IOException {
+		await(storageExecutor.submit(() -> {}));
+	}
+
+	private static <T> T await(@Nonnull Future<T> future) throws IOException {
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("Interrupted while waiting for region storage");
+		} catch (ExecutionException e) {
+			final Throwable cause = e.getCause();
+			if (cause instanceof IOException io)
+				throw io;
+			if (cause instanceof RuntimeException runtime)
+				throw runtime;
+			throw new IOException(cause);
+		}
+	}
+
+	@Nonnull
+	private static List<Region> storable(@Nonnull Collection<Region> regions) {
+		final ArrayList<Region> storable = new ArrayList<>(regions.size());
+		for (Region region : regions)
+			if (RegionStorage.canStore(region))
+				storable.add(region);
+		return storable;
+	}
+
+	/**
+	 * Encodes the changes on the calling thread, which holds the {@link #writeLock}, and
+	 * queues them to be written. {@code regions} is never modified once published, so it
+	 * can be safely saved later if the log needs to be compacted.
+	 */
+	private void store(@Nonnull UUID worldId, @Nonnull List<Region> removed, @Nonnull List<Region> added, @Nonnull Set<Region> regions) {
+		final RegionStorage storage = this.storage;
+		if (storage == null)
+			return;
+		final byte[] entries = RegionStorage.encode(storable(removed), storable(added));
+		if (entries.length == 0)
+			return;
+		storageExecutor.execute(() -> {
+			try {
+				storage.append(worldId, entries);
+				if (storage.needsCompaction(worldId))
+					storage.save(worldId, storable(regions));
+			} catch (IOException e) {
+				final Logger logger = scheduler == null ? Bukkit.getLogger() : scheduler.getPlugin().getLogger();
+				logger.log(Level.WARNING, "Could not store region changes of world " + worldId, e);
+			}
+		});
+	}
+
+	/*
+	 * Membership
+	 */
+
+	/**
+	 * Gets the {@link Region regions} that the specified {@code player} is
+	 * currently inside of, as tracked by this {@link RegionHandler}. Membership
+	 * is updated on every block change, teleport, world change and respawn, so
+	 * this doesn't need to test any region.
+	 *
+	 * @param player The {@link Player} to check.
+	 *
+	 * @return An unmodifiable {@link List} with the regions the {@code player}
+	 * is inside of, which may be empty but never {@code null}.
+	 *
+	 * @since SkyUtils v1.0.0
+	 */
+	@Nonnull
+	public List<Region> getRegions(@Nonnull Player player) {
+		final Region[] current = members.get(player.getUniqueId());
+		return current == null ? List.of() : List.of(current);
+	}
+
+	/**
+	 * Checks if the specified {@code player} is currently inside of {@code region},
+	 * as tracked by this {@link RegionHandler}.
+	 *
+	 * @param player The {@link Player} to check.
+	 * @param region The {@link Region} to check.
+	 *
+	 * @return {@code true} if {@code player} is inside of {@code region}, {@code false} otherwise.
+	 *
+	 * @since SkyUtils v1.0.0
+	 */
+	public boolean isInside(@Nonnull Player player, @Nonnull Region region) {
+		final Region[] current = members.get(player.getUniqueId());
+		return current != null && indexOf(current, region) != -1;
+	}
+
+	private static int indexOf(@Nonnull Region[] regions, @Nonnull Region region) {
+		for (int i = 0; i < regions.length; i++)
+			if (regions[i].equals(region))
+				return i;
+		return -1;
+	}
+
+	private void replaceMember(@Nonnull Region region, @Nullable Region replacement) {
+		for (UUID playerId : members.keySet())
+			members.computeIfPresent(playerId, (id, current) -> replace(current, region, replacement));
+	}
+
+	/** Returns {@code regions} with {@code region} replaced by {@code replacement}, or removed if {@code null}. */
+	@Nullable
+	private static Region[] replace(@Nonnull Region[] regions, @Nonnull Region region, @Nullable Region replacement) {
+		final int i = indexOf(regions, region);
+		if (i == -1)
+			return regions;
+		if (replacement != null && indexOf(regions, replacement) == -1) {
+			final Region[] result = regions.clone();
+			result[i] = replacement;
+			return result;
+		}
+		if (regions.length == 1)
+			return null;
+		final Region[] result = new Region[regions.length - 1];
+		System.arraycopy(regions, 0, result, 0, i);
+		System.arraycopy(regions, i + 1, result, i, result.length - i);
+		return result;
+	}
+
 	/*
 	 * Enter / Leave handling
 	 */
 
+	/*
+	 * Moves are handled in two steps. Entering and leaving events are called at the normal
+	 * priority so they can cancel the move, while membership is only changed and enter and
+	 * leave events are only called at MONITOR, once no other listener can cancel the move.
+	 */
+
 	@ApiStatus.Internal
-	@EventHandler
+	@EventHandler(ignoreCancelled = true)
 	public void onMove(PlayerMoveEvent e) {
-		if (!hasChangedBlock(e.getFrom(), e.getTo()))
-			return;
-		// Get all regions at from and to
-		final Set<Region> to = getRegionsAt(e.getTo());
-		final Set<Region> from = getRegionsAt(e.getFrom());
-		// Filter regions that are being entered or left
-		final Set<Region> entering = getRegionChanges(from, to, r -> new RegionEnteringEvent(e.getPlayer(), r));
-		final Set<Region> leaving = getRegionChanges(to, from, r -> new RegionLeavingEvent(e.getPlayer(), r));
-		// Cancel event if any called event was cancelled
-		if (entering == null || leaving == null)
+		if (hasChangedBlock(e.getFrom(), e.getTo()) && !canMoveTo(e.getPlayer(), e.getTo()))
 			e.setCancelled(true);
-		else { // Call success events
-			entering.forEach(entered -> new RegionEnterEvent(e.getPlayer(), entered).call());
-			leaving.forEach(left -> new RegionLeaveEvent(e.getPlayer(), left).call());
-		}
+	}
+
+	@ApiStatus.Internal
+	@EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+	public void onMoveMonitor(PlayerMoveEvent e) {
+		if (hasChangedBlock(e.getFrom(), e.getTo()))
+			moveTo(e.getPlayer(), e.getTo());
+	}
+
+	@ApiStatus.Internal
+	@EventHandler(ignoreCancelled = true)
+	public void onTeleport(PlayerTeleportEvent e) {
+		// Teleport events have their own HandlerList, so onMove doesn't receive them.
+		if (hasChangedBlock(e.getFrom(), e.getTo()) && !canMoveTo(e.getPlayer(), e.getTo()))
+			e.setCancelled(true);
+	}
+
+	@ApiStatus.Internal
+	@EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+	public void onTeleportMonitor(PlayerTeleportEvent e) {
+		if (hasChangedBlock(e.getFrom(), e.getTo()))
+			moveTo(e.getPlayer(), e.getTo());
+	}
+
+	@ApiStatus.Internal
+	@EventHandler(priority = EventPriority.MONITOR)
+	public void onWorldChange(PlayerChangedWorldEvent e) {
+		// Catches world changes that don't call onTeleport, like portals.
+		moveTo(e.getPlayer(), e.getPlayer().getLocation());
+	}
+
+	@ApiStatus.Internal
+	@EventHandler(priority = EventPriority.MONITOR)
+	public void onRespawn(PlayerRespawnEvent e) {
+		moveTo(e.getPlayer(), e.getRespawnLocation());
+	}
+
+	@ApiStatus.Internal
+	@EventHandler(priority = EventPriority.MONITOR)
+	public void onJoin(PlayerJoinEvent e) {
+		// Players join silently, without calling enter events.
+		final Location location = e.getPlayer().getLocation();
+		final RegionIndex index = getIndex(location);
+		if (index == null)
+			return;
+		final ArrayList<Region> joined = index.collectAt(location.getBlockX(), location.getBlockY(), location.getBlockZ(), new ArrayList<>());
+		if (!joined.isEmpty())
+			members.put(e.getPlayer().getUniqueId(), joined.toArray(new Region[0]));
+	}
+
+	@ApiStatus.Internal
+	@EventHandler(priority = EventPriority.MONITOR)
+	public void onQuit(PlayerQuitEvent e) {
+		members.remove(e.getPlayer().getUniqueId());
 	}
 
 	private boolean hasChangedBlock(@Nonnull Location from, @Nullable Location to) {
@@ -100,16 +664,148 @@ public class RegionHandler implements Listener {
 				from.getBlockZ() != to.getBlockZ();
 	}
 
-	private Set<Region> getRegionChanges(Set<Region> a, Set<Region> b, Function<Region, CancellableMCPlayerEvent> fun) {
-		final Set<Region> entered = new HashSet<>();
-		for (Region onB : b) {
-			if (a.contains(onB))
+	/**
+	 * Calls the entering and leaving events of a move of {@code player} to {@code to},
+	 * without changing its tracked regions.
+	 *
+	 * @return {@code false} if any entering or leaving event was cancelled, {@code true} otherwise.
+	 */
+	private boolean canMoveTo(@Nonnull Player player, @Nonnull Location to) {
+		// Nothing can cancel the move, so the change is only computed once, by moveTo.
+		if (!hasListeners(RegionEnteringEvent.getHandlerList()) && !hasListeners(RegionLeavingEvent.getHandlerList()))
+			return true;
+		final RegionChange change = getChange(player, to);
+		return change == null || callCancellable(player, change.entering, change.leaving);
+	}
+
+	/** Updates the tracked regions of {@code player} for a move to {@code to} and calls the enter and leave events. */
+	private void moveTo(@Nonnull Player player, @Nonnull Location to) {
+		final RegionChange change = getChange(player, to);
+		if (change == null)
+			return;
+		updateMembers(player.getUniqueId(), change.entering, change.leaving);
+		dispatch(player, change.entering, change.leaving);
+	}
+
+	/**
+	 * Gets the regions that {@code player} enters and leaves when moving to {@code to}. Only the
+	 * regions the player is currently inside of and the regions indexed near {@code to} are
+	 * tested, and nothing is allocated unless the player enters or leaves a region.
+	 *
+	 * @return The {@link RegionChange} of the move, {@code null} if no region is entered nor left.
+	 */
+	@Nullable
+	private RegionChange getChange(@Nonnull Player player, @Nonnull Location to) {
+		final Region[] current = members.getOrDefault(player.getUniqueId(), EMPTY_REGIONS);
+		final RegionIndex index = getIndex(to);
+		final World world = to.getWorld();
+		final int x = to.getBlockX(), y = to.getBlockY(), z = to.getBlockZ();
+		ArrayList<Region> leaving = null;
+		for (Region region : current) {
+			if (index != null && region.getWorld().equals(world) && region.contains(x, y, z))
 				continue;
-			if (!fun.apply(onB).call().isCancelled())
-				return null;
-			else
-				entered.add(onB);
+			if (leaving == null)
+				leaving = new ArrayList<>(current.length);
+			leaving.add(region);
+		}
+		ArrayList<Region> entering = null;
+		if (index != null) {
+			entering = addEntering(index.getCandidates(x, z), current, x, y, z, null);
+			entering = addEntering(index.getLargeRegions(), current, x, y, z, entering);
+		}
+		return entering == null && leaving == null ? null : new RegionChange(entering, leaving);
+	}
+
+	private record RegionChange(@Nullable List<Region> entering, @Nullable List<Region> leaving) {}
+
+	/*
+	 * Event dispatching
+	 */
+
+	/**
+	 * Checks if {@code handlers} has any registered listener. Events are only
+	 * created when this returns {@code true}, as creating and calling events
+	 * nobody listens to is a waste on a listener as hot as {@link #onMove(PlayerMoveEvent)}.
+	 */
+	private static boolean hasListeners(@Nonnull HandlerList handlers) {
+		return handlers.getRegisteredListeners().length != 0;
+	}
+
+	private boolean callCancellable(@Nonnull Player player, @Nullable List<Region> entering, @Nullable List<Region> leaving) {
+		if (entering != null && hasListeners(RegionEnteringEvent.getHandlerList()))
+			for (Region region : entering)
+				if (new RegionEnteringEvent(player, region).call().isCancelled())
+					return false;
+		if (leaving != null && hasListeners(RegionLeavingEvent.getHandlerList()))
+			for (Region region : leaving)
+				if (new RegionLeavingEvent(player, region).call().isCancelled())
+					return false;
+		return true;
+	}
+
+	private void dispatch(@Nonnull Player player, @Nullable List<Region> entering, @Nullable List<Region> leaving) {
+		if (entering != null && hasListeners(RegionEnterEvent.getHandlerList()))
+			for (Region region : entering)
+				new RegionEnterEvent(player, region).call();
+		if (leaving != null && hasListeners(RegionLeaveEvent.getHandlerList()))
+			for (Region region : leaving)
+				new RegionLeaveEvent(player, region).call();
+		if (scheduler == null || !hasListeners(RegionTransitionsEvent.getHandlerList()))
+			return;
+		if (entering != null)
+			for (Region region : entering)
+				pendingTransitions.add(new RegionTransitionsEvent.Transition(player, region, true));
+		if (leaving != null)
+			for (Region region : leaving)
+				pendingTransitions.add(new RegionTransitionsEvent.Transition(player, region, false));
+		if (!flushScheduled.compareAndSet(false, true))
+			return;
+		try {
+			scheduler.runSync(this::flushTransitions);
+		} catch (RuntimeException ex) {
+			// Otherwise no flush would ever be scheduled again, for example if the plugin was disabled.
+			flushScheduled.set(false);
+			throw ex;
+		}
+	}
+
+	private void flushTransitions() {
+		// Transitions added after this point schedule their own flush.
+		flushScheduled.set(false);
+		final ArrayList<RegionTransitionsEvent.Transition> transitions = new ArrayList<>();
+		RegionTransitionsEvent.Transition transition;
+		while ((transition = pendingTransitions.poll()) != null)
+			transitions.add(transition);
+		if (!transitions.isEmpty())
+			new RegionTransitionsEvent(transitions).call();
+	}
+
+	@Nullable
+	private static ArrayList<Region> addEntering(@Nonnull Region[] candidates, @Nonnull Region[] current,
+			int x, int y, int z, @Nullable ArrayList<Region> entering) {
+		for (Region region : candidates) {
+			if (!region.contains(x, y, z) || indexOf(current, region) != -1)
+				continue;
+			if (entering == null)
+				entering = new ArrayList<>(4);
+			entering.add(region);
 		}
-		return entered;
+		return entering;
+	}
+
+	private void updateMembers(@Nonnull UUID playerId, @Nullable List<Region> entering, @Nullable List<Region> leaving) {
+		// Applied to the latest value, as the registry may have replaced regions while events were being called.
+		members.compute(playerId, (id, latest) -> {
+			final Region[] current = latest == null ? EMPTY_REGIONS : latest;
+			final ArrayList<Region> updated = new ArrayList<>(current.length + (entering == null ? 0 : entering.size()));
+			for (Region region : current)
+				if (leaving == null || !leaving.contains(region))
+					updated.add(region);
+			if (entering != null)
+				for (Region region : entering)
+					if (!updated.contains(region))
+						updated.add(region);
+			return updated.isEmpty() ? null : updated.toArray(EMPTY_REGIONS);
+		});
 	}
 }
@@ -0,0 +1,220 @@
+package net.codersky.skyutils.spigot.regions;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Collection;
+import java.util.function.Consumer;
+
+/**
+ * Spatial index of the {@link Region regions} of a single world, used by
+ * {@link RegionHandler}. Regions are bucketed by every chunk column that their
+ * {@link Region#getMinX() bounds} overlap, so a point query only tests the
+ * regions of a single bucket. Regions covering more than {@link #LARGE_REGION_CHUNKS}
+ * chunks, including unbounded regions, are kept on a separate array that every
+ * query tests, as bucketing them would cost far more memory than it saves.
+ * <p>
+ * Every bucket, as well as the large region array, is kept sorted by
+ * {@link Region#getPriority() priority}, highest first, so the priority
+ * region at a point is simply the first region that contains it.
+ * <p>
+ * Queries don't allocate. This class isn't thread safe.
+ *
+ * @since SkyUtils v1.0.0
+ *
+ * @author xDec0de_
+ */
+final class RegionIndex {
+
+	/** The maximum amount of chunks a {@link Region} can cover to be bucketed by chunk. */
+	static final long LARGE_REGION_CHUNKS = 256;
+
+	private static final Region[] EMPTY = new Region[0];
+
+	private final ChunkRegionMap chunks;
+	private Region[] large = EMPTY;
+	private int size = 0;
+
+	RegionIndex() {
+		this.chunks = new ChunkRegionMap();
+	}
+
+	private RegionIndex(@Nonnull RegionIndex other) {
+		this.chunks = other.chunks.copy();
+		this.large = other.large;
+		this.size = other.size;
+	}
+
+	/*
+	 * Modification
+	 */
+
+	private static boolean isLarge(@Nonnull Region region) {
+		final long width = (long) (region.getMaxX() >> 4) - (region.getMinX() >> 4) + 1;
+		final long depth = (long) (region.getMaxZ() >> 4) - (region.getMinZ() >> 4) + 1;
+		return width * depth > LARGE_REGION_CHUNKS;
+	}
+
+	void add(@Nonnull Region region) {
+		size++;
+		if (isLarge(region)) {
+			large = insert(large, region);
+			return;
+		}
+		final int maxX = region.getMaxX() >> 4, maxZ = region.getMaxZ() >> 4;
+		for (int cx = region.getMinX() >> 4; cx <= maxX; cx++) {
+			for (int cz = region.getMinZ() >> 4; cz <= maxZ; cz++) {
+				final long key = ChunkRegionMap.key(cx, cz);
+				final Region[] bucket = chunks.get(key);
+				chunks.put(key, bucket == null ? new Region[] {region} : insert(bucket, region));
+			}
+		}
+	}
+
+	boolean remove(@Nonnull Region region) {
+		if (isLarge(region)) {
+			final Region[] removed = without(large, region);
+			if (removed == large)
+				return false;
+			large = removed;
+			size--;
+			return true;
+		}
+		boolean found = false;
+		final int maxX = region.getMaxX() >> 4, maxZ = region.getMaxZ() >> 4;
+		for (int cx = region.getMinX() >> 4; cx <= maxX; cx++) {
+			for (int cz = region.getMinZ() >> 4; cz <= maxZ; cz++) {
+				final long key = ChunkRegionMap.key(cx, cz);
+				final Region[] bucket = chunks.get(key);
+				if (bucket == null)
+					continue;
+				final Region[] removed = without(bucket, region);
+				if (removed != bucket) {
+					chunks.put(key, removed);
+					found = true;
+				}
+			}
+		}
+		if (found)
+			size--;
+		return found;
+	}
+
+	/** Returns a copy of {@code array} with {@code region} inserted after every region with the same or higher priority. */
+	@Nonnull
+	private static Region[] insert(@Nonnull Region[] array, @Nonnull Region region) {
+		final int priority = region.getPriority();
+		int pos = array.length;
+		while (pos > 0 && array[pos - 1].getPriority() < priority)
+			pos--;
+		final Region[] result = new Region[array.length + 1];
+		System.arraycopy(array, 0, result, 0, pos);
+		result[pos] = region;
+		System.arraycopy(array, pos, result, pos + 1, array.length - pos);
+		return result;
+	}
+
+	/** Returns {@code array} without {@code region}, or {@code array} itself if it didn't contain it. */
+	@Nonnull
+	private static Region[] without(@Nonnull Region[] array, @Nonnull Region region) {
+		for (int i = 0; i < array.length; i++) {
+			if (!array[i].equals(region))
+				continue;
+			final Region[] result = new Region[array.length - 1];
+			System.arraycopy(array, 0, result, 0, i);
+			System.arraycopy(array, i + 1, result, i, result.length - i);
+			return result;
+		}
+		return array;
+	}
+
+	/**
+	 * Creates a copy of this index. Buckets are shared, as they
+	 * are never modified, so this is proportional to the amount of
+	 * indexed chunks and not to the amount of regions.
+	 */
+	@Nonnull
+	RegionIndex copy() {
+		return new RegionIndex(this);
+	}
+
+	/*
+	 * Queries
+	 */
+
+	int size() {
+		return size;
+	}
+
+	/**
+	 * Gets the regions that are bucketed on the chunk of the specified block
+	 * coordinates. These regions <b>may</b> contain the block, while regions
+	 * on other buckets never do, except {@link #getLargeRegions() large regions}.
+	 * The returned array must not be modified.
+	 */
+	@Nonnull
+	Region[] getCandidates(int x, int z) {
+		final Region[] bucket = chunks.get(ChunkRegionMap.key(x >> 4, z >> 4));
+		return bucket == null ? EMPTY : bucket;
+	}
+
+	/** Gets the regions that aren't bucketed by chunk. The returned array must not be modified. */
+	@Nonnull
+	Region[] getLargeRegions() {
+		return large;
+	}
+
+	boolean isInRegion(int x, int y, int z) {
+		for (Region region : getCandidates(x, z))
+			if (region.contains(x, y, z))
+				return true;
+		for (Region region : large)
+			if (region.contains(x, y, z))
+				return true;
+		return false;
+	}
+
+	/**
+	 * Gets the {@link Region} with the highest {@link Region#getPriority() priority}
+	 * that contains the specified block coordinates. As buckets are sorted, this only
+	 * tests regions until the first match of the chunk bucket and of the large regions.
+	 * On ties, the bucketed region wins as it's the smallest, then the region that was
+	 * added first.
+	 */
+	@Nullable
+	Region getPriorityRegionAt(int x, int y, int z) {
+		Region found = null;
+		for (Region region : getCandidates(x, z)) {
+			if (region.contains(x, y, z)) {
+				found = region;
+				break;
+			}
+		}
+		for (Region region : large) {
+			if (found != null && region.getPriority() <= found.getPriority())
+				break;
+			if (region.contains(x, y, z))
+				return region;
+		}
+		return found;
+	}
+
+	void forEachAt(int x, int y, int z, @Nonnull Consumer<? super Region> action) {
+		for (Region region : getCandidates(x, z))
+			if (region.contains(x, y, z))
+				action.accept(region);
+		for (Region region : large)
+			if (region.contains(x, y, z))
+				action.accept(region);
+	}
+
+	@Nonnull
+	<C extends Collection<? super Region>> C collectAt(int x, int y, int z, @Nonnull C destination) {
+		for (Region region : getCandidates(x, z))
+			if (region.contains(x, y, z))
+				destination.add(region);
+		for (Region region : large)
+			if (region.contains(x, y, z))
+				destination.add(region);
+		return destination;
+	}
+}
@@ -0,0 +1,263 @@
+package net.codersky.skyutils.spigot.regions;
+
+import org.bukkit.World;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Immutable view of the {@link Region regions} of a {@link World} at a certain
+ * point in time, obtained with {@link RegionHandler#getSnapshot(World)}. Every
+ * change to the regions of a world publishes a new snapshot instead. Snapshots
+ * are never modified, so they can be freely shared between threads and queried
+ * off the main thread, for example, to check which of many entities are inside of
+ * a region without blocking the server. Keep in mind that this requires the
+ * {@link Region#contains(int, int, int)} method of every region to be thread safe,
+ * which is the case for every {@link Region} provided by SkyUtils.
+ * <p>
+ * Batch queries take coordinates as three parallel arrays, which must have the
+ * same length, and return their results as primitive arrays with one element per
+ * point. Entity locations should be copied to these arrays on the main thread,
+ * as reading them asynchronously isn't safe.
+ *
+ * @since SkyUtils v1.0.0
+ *
+ * @author xDec0de_
+ */
+public final class RegionSnapshot {
+
+	private final UUID worldId;
+	private final RegionIndex index;
+	private final Set<Region> regions;
+
+	RegionSnapshot(@Nonnull UUID worldId, @Nonnull RegionIndex index, @Nonnull Set<Region> regions) {
+		this.worldId = worldId;
+		this.index = index;
+		this.regions = regions;
+	}
+
+	@Nonnull
+	RegionIndex getIndex() {
+		return index;
+	}
+
+	/**
+	 * Gets the {@link UUID} of the {@link World} of this {@link RegionSnapshot}.
+	 *
+	 * @return The {@link UUID} of the {@link World} of this {@link RegionSnapshot}.
+	 *
+	 * @since SkyUtils v1.0.0
+	 */
+	@Nonnull
+	public UUID getWorldId() {
+		return worldId;
+	}
+
+	/**
+	 * Gets the amount of regions on this {@link RegionSnapshot}.
+	 *
+	 * @return The amount of regions on this {@link RegionSnapshot}.
+	 *
+	 * @since SkyUtils v1.0.0
+	 */
+	public int size() {
+		return regions.size();
+	}
+
+	/**
+	 * Gets every {@link Region} on this {@link RegionSnapshot}.
+	 *
+	 * @return An unmodifiable {@link Set} with every {@link Region} on this {@link RegionSnapshot}.
+	 *
+	 * @since SkyUtils v1.0.0
+	 */
+	@Nonnull
+	public Set<Region> getRegions() {
+		return regions;
+	}
+
+	/**
+	 * Checks if {@code region} is part of this {@link RegionSnapshot}.
+	 *
+	 * @param region The {@link Region} to check.
+	 *
+	 * @return {@code true} if {@code region} is part of this {@link RegionSnapshot}, {@code false} otherwise.
+	 *
+	 * @since SkyUtils v1.0.0
+	 */
+	public boolean hasRegion(@Nonnull Region region) {
+		return regions.contains(region);
+	}
+
+	/*
+	 * Point queries
+	 */
+
+	/**
+	 * Checks if any {@link Region} contains the specified block coordinates.
+	 *
+	 * @param x The X coordinate to check.
+	 * @param y The Y coordinate to check.
+	 * @param z The Z coordinate to check.
+	 *
+	 * @return {@code true} if any {@link Region} contains the coordinates, {@code false} otherwise.
+	 *
+	 * @since SkyUtils v1.0.0
+	 */
+	public boolean isInRegion(int x, int y, int z) {
+		return index.isInRegion(x, y, z);
+	}
+
+	/**
+	 * Gets the {@link Region} with the highest {@link Region#getPriority() priority}
+	 * that contains the specified block coordinates.
+	 *
+	 * @param x The X coordinate to check.
+	 * @param y The Y coordinate to check.
+	 * @param z The Z coordinate to check.
+	 *
+	 * @return The {@link Region} with the highest priority at the coordinates,
+	 * {@code null} if no region contains them.
+	 *
+	 * @since SkyUtils v1.0.0
+	 *
+	 * @see RegionHandler#getPriorityRegionAt(org.bukkit.Location)
+	 */
+	@Nullable
+	public Region getPriorityRegionAt(int x, int y, int z) {
+		return index.getPriorityRegionAt(x, y, z);
+	}
+
+	/**
+	 * Performs the given {@code action} for every {@link Region} that
+	 * contains the specified block coordinates.
+	 *
+	 * @param x The X coordinate to check.
+	 * @param y The Y coordinate to check.
+	 * @param z The Z coordinate to check.
+	 * @param action The action to perform on every {@link Region}.
+	 *
+	 * @since SkyUtils v1.0.0
+	 */
+	public void forEachRegionAt(int x, int y, int z, @Nonnull Consumer<? super Region> action) {
+		index.forEachAt(x, y, z, action);
+	}
+
+	/*
+	 * Batch queries
+	 */
+
+	private static int checkLength(@Nonnull int[] x, @Nonnull int[] y, @Nonnull int[] z) {
+		if (x.length != y.length || x.length != z.length)
+			throw new IllegalArgumentException("Coordinate arrays must have the same length (" + x.length + ", " + y.length + ", " + z.length + ")");
+		return x.length;
+	}
+
+	/**
+	 * Checks, for every point, if any {@link Region} contains it.
+	 *
+	 * @param x The X coordinates of the points.
+	 * @param y The Y coordinates of the points.
+	 * @param z The Z coordinates of the points.
+	 *
+	 * @return An array where the element {@code i} is {@code true} if any {@link Region}
+	 * contains the point {@code i}.
+	 *
+	 * @throws IllegalArgumentException if the coordinate arrays don't have the same length.
+	 *
+	 * @since SkyUtils v1.0.0
+	 */
+	@Nonnull
+	public boolean[] isInRegion(@Nonnull int[] x, @Nonnull int[] y, @Nonnull int[] z) {
+		final boolean[] result = new boolean[checkLength(x, y, z)];
+		for (int i = 0; i < result.length; i++)
+			result[i] = index.isInRegion(x[i], y[i], z[i]);
+		return result;
+	}
+
+	/**
+	 * Checks, for every point, if {@code region} contains it. Points outside of
+	 * the {@link Region#getMinX() bounds} of {@code region} are discarded without
+	 * calling {@link Region#contains(int, int, int)}. The {@code region} doesn't
+	 * need to be part of this {@link RegionSnapshot}.
+	 *
+	 * @param region The {@link Region} to check.
+	 * @param x The X coordinates of the points.
+	 * @param y The Y coordinates of the points.
+	 * @param z The Z coordinates of the points.
+	 *
+	 * @return An array where the element {@code i} is {@code true} if
+	 * {@code region} contains the point {@code i}.
+	 *
+	 * @throws IllegalArgumentException if the coordinate arrays don't have the same length.
+	 *
+	 * @since SkyUtils v1.0.0
+	 */
+	@Nonnull
+	public boolean[] contains(@Nonnull Region region, @Nonnull int[] x, @Nonnull int[] y, @Nonnull int[] z) {
+		final boolean[] result = new boolean[checkLength(x, y, z)];
+		final int minX = region.getMinX(), minY = region.getMinY(), minZ = region.getMinZ();
+		final int maxX = region.getMaxX(), maxY = region.getMaxY(), maxZ = region.getMaxZ();
+		for (int i = 0; i < result.length; i++) {
+			final int px = x[i], py = y[i], pz = z[i];
+			result[i] = px >= minX && px <= maxX && py >= minY && py <= maxY && pz >= minZ && pz <= maxZ
+					&& region.contains(px, py, pz);
+		}
+		return result;
+	}
+
+	/**
+	 * Gets the indexes of the points that {@code region} contains. This works
+	 * exactly like {@link #contains(Region, int[], int[], int[])}, but returns
+	 * only the indexes of the matching points, in ascending order, which is more
+	 * convenient when few points are expected to match.
+	 *
+	 * @param region The {@link Region} to check.
+	 * @param x The X coordinates of the points.
+	 * @param y The Y coordinates of the points.
+	 * @param z The Z coordinates of the points.
+	 *
+	 * @return The indexes of the points that {@code region} contains.
+	 *
+	 * @throws IllegalArgumentException if the coordinate arrays don't have the same length.
+	 *
+	 * @since SkyUtils v1.0.0
+	 */
+	@Nonnull
+	public int[] getPointsInside(@Nonnull Region region, @Nonnull int[] x, @Nonnull int[] y, @Nonnull int[] z) {
+		final boolean[] inside = contains(region, x, y, z);
+		final int[] result = new int[inside.length];
+		int found = 0;
+		for (int i = 0; i < inside.length; i++)
+			if (inside[i])
+				result[found++] = i;
+		return Arrays.copyOf(result, found);
+	}
+
+	/**
+	 * Gets, for every point, the {@link Region} with the highest
+	 * {@link Region#getPriority() priority} that contains it.
+	 *
+	 * @param x The X coordinates of the points.
+	 * @param y The Y coordinates of the points.
+	 * @param z The Z coordinates of the points.
+	 *
+	 * @return An array where the element {@code i} is the priority {@link Region}
+	 * of the point {@code i}, or {@code null} if no region contains it.
+	 *
+	 * @throws IllegalArgumentException if the coordinate arrays don't have the same length.
+	 *
+	 * @since SkyUtils v1.0.0
+	 */
+	@Nonnull
+	public Region[] getPriorityRegionsAt(@Nonnull int[] x, @Nonnull int[] y, @Nonnull int[] z) {
+		final Region[] result = new Region[checkLength(x, y, z)];
+		for (int i = 0; i < result.length; i++)
+			result[i] = index.getPriorityRegionAt(x[i], y[i], z[i]);
+		return result;
+	}
+}
@@ -0,0 +1,396 @@
+package net.codersky.skyutils.spigot.regions;
+
+import org.bukkit.World;
+
+import javax.annotation.Nonnull;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Persistent storage of {@link Region regions} on a compact binary format, with
+ * one data file per {@link World}, named after the {@link UUID} of the world, and
+ * an append only log next to it. Changes are appended to the log, so saving a single
+ * region doesn't rewrite every region of the world, and the log is merged into the
+ * data file on {@link #save(UUID, Collection) save}, which happens automatically once
+ * the log grows bigger than the data file. Both files are read with a single read into
+ * memory, which keeps loading fast even for worlds with thousands of regions. Files are
+ * never kept open after loading, so they can be replaced or deleted on any platform.
+ * <p>
+ * Only the regions provided by SkyUtils can be stored: {@link Region2D}, {@link Region3D},
+ * {@link PolygonRegion}, {@link CylinderRegion}, {@link SphereRegion} and {@link CompositeRegion}.
+ * Subclasses of these can't be stored, as they can't be restored.
+ * <p>
+ * Storage is usually attached to a {@link RegionHandler} with
+ * {@link RegionHandler#setStorage(RegionStorage)}, which logs every change automatically.
+ * This class is thread safe.
+ *
+ * @since SkyUtils v1.0.0
+ *
+ * @author xDec0de_
+ */
+public class RegionStorage {
+
+	private static final int MAGIC = 0x534B5952; // "SKYR"
+	private static final byte VERSION = 1;
+	/** Logs smaller than this are never merged automatically. */
+	private static final long MIN_COMPACTION_SIZE = 64 * 1024;
+
+	private static final byte OP_ADD = 1;
+	private static final byte OP_REMOVE = 2;
+
+	private static final byte TYPE_2D = 1;
+	private static final byte TYPE_3D = 2;
+	private static final byte TYPE_POLYGON = 3;
+	private static final byte TYPE_CYLINDER = 4;
+	private static final byte TYPE_SPHERE = 5;
+	private static final byte TYPE_COMPOSITE = 6;
+
+	private final File directory;
+
+	/**
+	 * Creates a new {@link RegionStorage} that stores region files
+	 * on the specified {@code directory}, which will be created if needed.
+	 *
+	 * @param directory The directory to store region files on.
+	 *
+	 * @since SkyUtils v1.0.0
+	 */
+	public RegionStorage(@Nonnull File directory) {
+		this.directory = Objects.requireNonNull(directory, "directory cannot be null");
+	}
+
+	@Nonnull
+	private File getDataFile(@Nonnull UUID worldId) {
+		return new File(directory, worldId + ".regions");
+	}
+
+	@Nonnull
+	private File getLogFile(@Nonnull UUID worldId) {
+		return new File(directory, worldId + ".regions.log");
+	}
+
+	/*
+	 * Loading
+	 */
+
+	/**
+	 * Loads every {@link Region} stored for the specified {@code world}, applying
+	 * every change of its log in order. An incomplete entry at the end of the log,
+	 * caused for example by a crash while it was written, is ignored, and the log
+	 * is then merged into the data file so new entries aren't appended after it.
+	 *
+	 * @param world The {@link World} to load the regions of.
+	 *
+	 * @return A {@link Set} with the stored regions, empty if the {@code world} has none.
+	 *
+	 * @throws IOException if any file can't be read or the data file is corrupt.
+	 *
+	 * @since SkyUtils v1.0.0
+	 */
+	@Nonnull
+	public synchronized Set<Region> load(@Nonnull World world) throws IOException {
+		final UUID worldId = world.getUID();
+		final LinkedHashSet<Region> regions = new LinkedHashSet<>();
+		final File data = getDataFile(worldId);
+		if (data.isFile()) {
+			final ByteBuffer buffer = read(data);
+			try {
+				if (buffer.getInt() != MAGIC)
+					throw new IOException("Invalid region file " + data);
+				final byte version = buffer.get();
+				if (version != VERSION)
+					throw new IOException("Unsupported region file version " + version + " on " + data);
+				final int count = buffer.getInt();
+				for (int i = 0; i < count; i++)
+					regions.add(read(buffer, world));
+			} catch (BufferUnderflowException | IllegalArgumentException e) {
+				throw new IOException("Corrupt region file " + data, e);
+			}
+		}
+		final File log = getLogFile(worldId);
+		if (log.isFile()) {
+			final ByteBuffer buffer = read(log);
+			boolean complete = true;
+			while (buffer.hasRemaining() && complete) {
+				try {
+					final byte op = buffer.get();
+					final Region region = read(buffer, world);
+					if (op == OP_ADD)
+						regions.add(region);
+					else if (op == OP_REMOVE)
+						regions.remove(region);
+					else
+						complete = false;
+				} catch (BufferUnderflowException | IllegalArgumentException e) {
+					complete = false;
+				}
+			}
+			// New entries would be appended after the incomplete one and lost, so merge the log now.
+			if (!complete)
+				save(worldId, regions);
+		}
+		return regions;
+	}
+
+	/**
+	 * Reads the whole {@code file} into a heap buffer. Files aren't memory mapped, as mapped
+	 * files can't be replaced nor deleted on Windows until the mapping is garbage collected,
+	 * which would make {@link #save(UUID, Collection)} fail right after loading.
+	 */
+	@Nonnull
+	private static ByteBuffer read(@Nonnull File file) throws IOException {
+		return ByteBuffer.wrap(Files.readAllBytes(file.toPath()));
+	}
+
+	@Nonnull
+	private static Region read(@Nonnull ByteBuffer buffer, @Nonnull World world) {
+		final byte type = buffer.get();
+		return switch (type) {
+			case TYPE_2D -> new Region2D(world, buffer.getInt(), buffer.getInt(), buffer.getInt(), buffer.getInt());
+			case TYPE_3D -> new Region3D(world, buffer.getInt(), buffer.getInt(), buffer.getInt(),
+					buffer.getInt(), buffer.getInt(), buffer.getInt());
+			case TYPE_POLYGON -> {
+				final int minY = buffer.getInt(), maxY = buffer.getInt(), size = buffer.getInt();
+				if (size < 3 || size > buffer.remaining() / 8)
+					throw new IllegalArgumentException("Invalid polygon size " + size);
+				final int[] x = new int[size], z = new int[size];
+				for (int i = 0; i < size; i++) {
+					x[i] = buffer.getInt();
+					z[i] = buffer.getInt();
+				}
+				yield new PolygonRegion(world, x, z, minY, maxY);
+			}
+			case TYPE_CYLINDER -> new CylinderRegion(world, buffer.getInt(), buffer.getInt(), buffer.getDouble(),
+					buffer.getInt(), buffer.getInt());
+			case TYPE_SPHERE -> new SphereRegion(world, buffer.getInt(), buffer.getInt(), buffer.getInt(), buffer.getDouble());
+			case TYPE_COMPOSITE -> {
+				final boolean union = buffer.get() != 0;
+				final int size = buffer.getInt();
+				if (size < 1 || size > buffer.remaining())
+					throw new IllegalArgumentException("Invalid composite size " + size);
+				final Region[] parts = new Region[size];
+				for (int i = 0; i < size; i++)
+					parts[i] = read(buffer, world);
+				yield union ? CompositeRegion.union(parts) : CompositeRegion.difference(parts[0], Arrays.copyOfRange(parts, 1, size));
+			}
+			default -> throw new IllegalArgumentException("Unknown region type " + type);
+		};
+	}
+
+	/*
+	 * Saving
+	 */
+
+	/**
+	 * Checks if the specified {@code region} can be stored by a {@link RegionStorage}.
+	 *
+	 * @param region The {@link Region} to check.
+	 *
+	 * @return {@code true} if {@code region} can be stored, {@code false} otherwise.
+	 *
+	 * @since SkyUtils v1.0.0
+	 */
+	public static boolean canStore(@Nonnull Region region) {
+		final Class<?> type = region.getClass();
+		if (type == CompositeRegion.class) {
+			for (Region part : ((CompositeRegion) region).getParts())
+				if (!canStore(part))
+					return false;
+			return true;
+		}
+		return type == Region2D.class || type == Region3D.class || type == PolygonRegion.class
+				|| type == CylinderRegion.class || type == SphereRegion.class;
+	}
+
+	/**
+	 * Appends changes to the log of the {@link World} with the specified {@code worldId},
+	 * removals first. This doesn't rewrite the data file.
+	 *
+	 * @param worldId The {@link UUID} of the {@link World} the regions are on.
+	 * @param removed The regions that were removed.
+	 * @param added The regions that were added.
+	 *
+	 * @throws IOException if the log can't be written.
+	 * @throws IllegalArgumentException if any region can't be stored.
+	 *
+	 * @since SkyUtils v1.0.0
+	 */
+	public void append(@Nonnull UUID worldId, @Nonnull Collection<? extends Region> removed,
+			@Nonnull Collection<? extends Region> added) throws IOException {
+		append(worldId, encode(removed, added));
+	}
+
+	/**
+	 * Encodes changes as log entries, removals first, without writing anything. The
+	 * result can be appended later with {@link #append(UUID, byte[])}, which allows
+	 * encoding the changes on the thread that makes them and writing them on another.
+	 *
+	 * @param removed The regions that were removed.
+	 * @param added The regions that were added.
+	 *
+	 * @return The encoded log entries, empty if there are no changes.
+	 *
+	 * @throws IllegalArgumentException if any region can't be stored.
+	 *
+	 * @since SkyUtils v1.0.0
+	 */
+	@Nonnull
+	public static byte[] encode(@Nonnull Collection<? extends Region> removed, @Nonnull Collection<? extends Region> added) {
+		// Encoded in memory first, so unsupported regions don't leave partial entries on the log.
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		final DataOutputStream entries = new DataOutputStream(bytes);
+		try {
+			for (Region region : removed) {
+				entries.writeByte(OP_REMOVE);
+				write(entries, region);
+			}
+			for (Region region : added) {
+				entries.writeByte(OP_ADD);
+				write(entries, region);
+			}
+		} catch (IOException e) {
+			throw new IllegalStateException("ByteArrayOutputStream doesn't throw IOException", e);
+		}
+		return bytes.toByteArray();
+	}
+
+	/**
+	 * Appends log entries, as returned by {@link #encode(Collection, Collection)}, to the log
+	 * of the {@link World} with the specified {@code worldId}. This doesn't rewrite the data file.
+	 *
+	 * @param worldId The {@link UUID} of the {@link World} the regions are on.
+	 * @param entries The encoded log entries.
+	 *
+	 * @throws IOException if the log can't be written.
+	 *
+	 * @since SkyUtils v1.0.0
+	 */
+	public synchronized void append(@Nonnull UUID worldId, @Nonnull byte[] entries) throws IOException {
+		if (entries.length == 0)
+			return;
+		createDirectory();
+		try (FileOutputStream out = new FileOutputStream(getLogFile(worldId), true)) {
+			out.write(entries);
+		}
+	}
+
+	/**
+	 * Checks if the log of the {@link World} with the specified {@code worldId}
+	 * is big enough to be merged into its data file with {@link #save(UUID, Collection)}.
+	 *
+	 * @param worldId The {@link UUID} of the {@link World} to check.
+	 *
+	 * @return {@code true} if the log should be merged, {@code false} otherwise.
+	 *
+	 * @since SkyUtils v1.0.0
+	 */
+	public boolean needsCompaction(@Nonnull UUID worldId) {
+		final long logSize = getLogFile(worldId).length();
+		return logSize > MIN_COMPACTION_SIZE && logSize > getDataFile(worldId).length();
+	}
+
+	/**
+	 * Saves every region of the {@link World} with the specified {@code worldId} to its
+	 * data file, replacing it, and deletes its log. The data file is written to a temporary
+	 * file first and then moved, so a crash never leaves a partially written data file.
+	 *
+	 * @param worldId The {@link UUID} of the {@link World} the regions are on.
+	 * @param regions Every region of the {@link World}.
+	 *
+	 * @throws IOException if the data file can't be written.
+	 * @throws IllegalArgumentException if any region can't be stored.
+	 *
+	 * @since SkyUtils v1.0.0
+	 */
+	public synchronized void save(@Nonnull UUID worldId, @Nonnull Collection<? extends Region> regions) throws IOException {
+		createDirectory();
+		final File data = getDataFile(worldId);
+		final File temp = new File(directory, worldId + ".regions.tmp");
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temp)))) {
+			out.writeInt(MAGIC);
+			out.writeByte(VERSION);
+			out.writeInt(regions.size());
+			for (Region region : regions)
+				write(out, region);
+		}
+		Files.move(temp.toPath(), data.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		// If this fails, replaying the log over the new data file still gives the same result.
+		Files.deleteIfExists(getLogFile(worldId).toPath());
+	}
+
+	private void createDirectory() throws IOException {
+		if (!directory.isDirectory() && !directory.mkdirs())
+			throw new IOException("Could not create region directory " + directory);
+	}
+
+	private static void write(@Nonnull DataOutputStream out, @Nonnull Region region) throws IOException {
+		// Exact classes, as subclasses may change the behavior of a region and can't be restored.
+		final Class<?> type = region.getClass();
+		if (type == Region3D.class) {
+			final Region3D box = (Region3D) region;
+			out.writeByte(TYPE_3D);
+			out.writeInt(box.getMinX());
+			out.writeInt(box.getMinY());
+			out.writeInt(box.getMinZ());
+			out.writeInt(box.getMaxX());
+			out.writeInt(box.getMaxY());
+			out.writeInt(box.getMaxZ());
+		} else if (type == Region2D.class) {
+			final Region2D box = (Region2D) region;
+			out.writeByte(TYPE_2D);
+			out.writeInt(box.getMinX());
+			out.writeInt(box.getMinZ());
+			out.writeInt(box.getMaxX());
+			out.writeInt(box.getMaxZ());
+		} else if (type == PolygonRegion.class) {
+			final PolygonRegion polygon = (PolygonRegion) region;
+			out.writeByte(TYPE_POLYGON);
+			out.writeInt(polygon.getMinY());
+			out.writeInt(polygon.getMaxY());
+			final int[] x = polygon.getPointsX(), z = polygon.getPointsZ();
+			out.writeInt(x.length);
+			for (int i = 0; i < x.length; i++) {
+				out.writeInt(x[i]);
+				out.writeInt(z[i]);
+			}
+		} else if (type == CylinderRegion.class) {
+			final CylinderRegion cylinder = (CylinderRegion) region;
+			out.writeByte(TYPE_CYLINDER);
+			out.writeInt(cylinder.getCenterX());
+			out.writeInt(cylinder.getCenterZ());
+			out.writeDouble(cylinder.getRadius());
+			out.writeInt(cylinder.getMinY());
+			out.writeInt(cylinder.getMaxY());
+		} else if (type == SphereRegion.class) {
+			final SphereRegion sphere = (SphereRegion) region;
+			out.writeByte(TYPE_SPHERE);
+			out.writeInt(sphere.getCenterX());
+			out.writeInt(sphere.getCenterY());
+			out.writeInt(sphere.getCenterZ());
+			out.writeDouble(sphere.getRadius());
+		} else if (type == CompositeRegion.class) {
+			final CompositeRegion composite = (CompositeRegion) region;
+			out.writeByte(TYPE_COMPOSITE);
+			out.writeBoolean(composite.isUnion());
+			final Region[] parts = composite.getParts();
+			out.writeInt(parts.length);
+			for (Region part : parts)
+				write(out, part);
+		} else
+			throw new IllegalArgumentException("Regions of type " + type.getName() + " can't be stored");
+	}
+}
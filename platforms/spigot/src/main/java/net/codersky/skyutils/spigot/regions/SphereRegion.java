@@ -0,0 +1,267 @@
+package net.codersky.skyutils.spigot.regions;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Objects;
+
+/**
+ * A {@link Region} shaped as a sphere. A block is inside of the
+ * sphere if its distance to the center block is lower or equal
+ * to the radius of the sphere.
+ *
+ * @since SkyUtils v1.0.0
+ *
+ * @author xDec0de_
+ */
+public class SphereRegion implements Region {
+
+	private final World world;
+	private final int centerX;
+	private final int centerY;
+	private final int centerZ;
+	private final double radius;
+	private final double radiusSquared;
+	private final int blockRadius;
+
+	/**
+	 * Creates a {@link SphereRegion} by integer coordinates.
+	 *
+	 * @param world the {@link World} this region will be in.
+	 * @param centerX the X coordinate of the center block.
+	 * @param centerY the Y coordinate of the center block.
+	 * @param centerZ the Z coordinate of the center block.
+	 * @param radius the radius of the sphere, in blocks.
+	 *
+	 * @throws NullPointerException If {@code world} is {@code null}.
+	 * @throws IllegalArgumentException If {@code radius} is negative or not finite.
+	 *
+	 * @since SkyUtils v1.0.0
+	 *
+	 * @see #SphereRegion(Location, double)
+	 */
+	public SphereRegion(@Nonnull World world, int centerX, int centerY, int centerZ, double radius) {
+		this.world = Objects.requireNonNull(world, "World cannot be null");
+		if (!(radius >= 0) || Double.isInfinite(radius))
+			throw new IllegalArgumentException("Radius must be a positive finite number");
+		this.centerX = centerX;
+		this.centerY = centerY;
+		this.centerZ = centerZ;
+		this.radius = radius;
+		this.radiusSquared = radius * radius;
+		this.blockRadius = (int) Math.min(Integer.MAX_VALUE / 2, Math.floor(radius));
+	}
+
+	/**
+	 * Creates a {@link SphereRegion} centered on the block of a {@link Location}.
+	 *
+	 * @param center the {@link Location} of the center block.
+	 * @param radius the radius of the sphere, in blocks.
+	 *
+	 * @throws NullPointerException If {@code center} or its {@link World} are {@code null}.
+	 * @throws IllegalArgumentException If {@code radius} is negative or not finite.
+	 *
+	 * @since SkyUtils v1.0.0
+	 *
+	 * @see #SphereRegion(World, int, int, int, double)
+	 */
+	public SphereRegion(@Nonnull Location center, double radius) {
+		this(Objects.requireNonNull(center.getWorld(), "Region world cannot be null"),
+				center.getBlockX(), center.getBlockY(), center.getBlockZ(), radius);
+	}
+
+	/*
+	 * Getters
+	 */
+
+	@Nonnull
+	@Override
+	public World getWorld() {
+		return world;
+	}
+
+	/**
+	 * Gets the X coordinate of the center block of this {@link SphereRegion}.
+	 *
+	 * @return The X coordinate of the center block of this {@link SphereRegion}.
+	 *
+	 * @since SkyUtils v1.0.0
+	 */
+	public int getCenterX() {
+		return centerX;
+	}
+
+	/**
+	 * Gets the Y coordinate of the center block of this {@link SphereRegion}.
+	 *
+	 * @return The Y coordinate of the center block of this {@link SphereRegion}.
+	 *
+	 * @since SkyUtils v1.0.0
+	 */
+	public int getCenterY() {
+		return centerY;
+	}
+
+	/**
+	 * Gets the Z coordinate of the center block of this {@link SphereRegion}.
+	 *
+	 * @return The Z coordinate of the center block of this {@link SphereRegion}.
+	 *
+	 * @since SkyUtils v1.0.0
+	 */
+	public int getCenterZ() {
+		return centerZ;
+	}
+
+	/**
+	 * Gets the radius of this {@link SphereRegion}, in blocks.
+	 *
+	 * @return The radius of this {@link SphereRegion}, in blocks.
+	 *
+	 * @since SkyUtils v1.0.0
+	 */
+	public double getRadius() {
+		return radius;
+	}
+
+	@Override
+	public int getMinX() {
+		return centerX - blockRadius;
+	}
+
+	@Override
+	public int getMinY() {
+		return centerY - blockRadius;
+	}
+
+	@Override
+	public int getMinZ() {
+		return centerZ - blockRadius;
+	}
+
+	@Override
+	public int getMaxX() {
+		return centerX + blockRadius;
+	}
+
+	@Override
+	public int getMaxY() {
+		return centerY + blockRadius;
+	}
+
+	@Override
+	public int getMaxZ() {
+		return centerZ + blockRadius;
+	}
+
+	/*
+	 * Contains
+	 */
+
+	@Override
+	public boolean contains(int x, int y, int z) {
+		final long dx = (long) x - centerX;
+		final long dy = (long) y - centerY;
+		final long dz = (long) z - centerZ;
+		return dx * dx + dy * dy + dz * dz <= radiusSquared;
+	}
+
+	@Override
+	public boolean containsColumn(int x, int z) {
+		// The widest circle of the sphere is the one at its center.
+		final long dx = (long) x - centerX;
+		final long dz = (long) z - centerZ;
+		return dx * dx + dz * dz <= radiusSquared;
+	}
+
+	/*
+	 * Overlaps
+	 */
+
+	/**
+	 * Checks if this {@link SphereRegion} overlaps with {@code region}. Overlaps with
+	 * {@link Region2D} and {@link Region3D} are checked by clamping the center of this
+	 * sphere to the box, which gives the block of the box that is closest to the center.
+	 * Overlaps with other spheres are rejected if the distance between both centers is
+	 * bigger than the sum of both radii, and accepted if the block in the middle of their
+	 * intersection is inside both. Any other case uses {@link Region#overlaps(Region)}.
+	 *
+	 * @param region the {@link Region} to check.
+	 *
+	 * @return {@code true} if this {@link SphereRegion} overlaps with {@code region},
+	 * {@code false} otherwise.
+	 *
+	 * @throws NullPointerException if {@code region} is {@code null}
+	 *
+	 * @since SkyUtils v1.0.0
+	 */
+	@Override
+	public boolean overlaps(@Nonnull Region region) {
+		if (!world.equals(region.getWorld()))
+			return false;
+		if (region instanceof Region2D box) {
+			final int minY = Math.max(box.getMinY(), world.getMinHeight());
+			final int maxY = Math.min(box.getMaxY(), world.getMaxHeight() - 1);
+			return minY <= maxY && contains(Math.clamp(centerX, box.getMinX(), box.getMaxX()),
+					Math.clamp(centerY, minY, maxY), Math.clamp(centerZ, box.getMinZ(), box.getMaxZ()));
+		}
+		if (region instanceof SphereRegion other) {
+			final double dx = (double) other.centerX - centerX;
+			final double dy = (double) other.centerY - centerY;
+			final double dz = (double) other.centerZ - centerZ;
+			final double distance = Math.sqrt(dx * dx + dy * dy + dz * dz);
+			if (distance > radius + other.radius)
+				return false;
+			// Middle of the segment of the line between both centers that is inside both spheres.
+			final double middle = (Math.max(-radius, distance - other.radius) + Math.min(radius, distance + other.radius)) / 2;
+			final double t = distance == 0 ? 0 : middle / distance;
+			final int x = (int) Math.rint(centerX + dx * t);
+			final int y = (int) Math.rint(centerY + dy * t);
+			final int z = (int) Math.rint(centerZ + dz * t);
+			if (y >= world.getMinHeight() && y < world.getMaxHeight() && contains(x, y, z) && other.contains(x, y, z))
+				return true;
+		}
+		return Region.super.overlaps(region);
+	}
+
+	/*
+	 * Object methods
+	 */
+
+	@Override
+	public boolean equals(@Nullable Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null || obj.getClass() != getClass())
+			return false;
+		final SphereRegion other = (SphereRegion) obj;
+		return world.equals(other.world)
+				&& centerX == other.centerX
+				&& centerY == other.centerY
+				&& centerZ == other.centerZ
+				&& radius == other.radius;
+	}
+
+	/**
+	 * Returns a string representation of this {@link SphereRegion} following this format:
+	 * <p>
+	 * "SphereRegion[world:world_name, centerX:X, centerY:Y, centerZ:Z, radius:R]";
+	 *
+	 * @return A string representation of this {@link SphereRegion}.
+	 */
+	@Override
+	public String toString() {
+		return "SphereRegion[world:" + world.getName() +
+				", centerX:" + centerX +
+				", centerY:" + centerY +
+				", centerZ:" + centerZ +
+				", radius:" + radius + "]";
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(world, centerX, centerY, centerZ, radius);
+	}
+}
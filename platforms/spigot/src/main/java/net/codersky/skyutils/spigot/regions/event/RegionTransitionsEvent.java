@@ -0,0 +1,66 @@
+package net.codersky.skyutils.spigot.regions.event;
+
+import net.codersky.skyutils.spigot.events.MCEvent;
+import net.codersky.skyutils.spigot.regions.Region;
+import net.codersky.skyutils.spigot.regions.RegionHandler;
+import org.bukkit.entity.Player;
+import org.bukkit.event.HandlerList;
+
+import javax.annotation.Nonnull;
+import java.util.List;
+
+/**
+ * Event called once per tick by {@link RegionHandler} with every region
+ * transition that happened during the previous tick, for plugins that only
+ * need aggregate notifications instead of a {@link RegionEnterEvent} or
+ * {@link RegionLeaveEvent} per transition. Transitions are only collected
+ * while this event has listeners, and are listed in the order they happened.
+ *
+ * @since SkyUtils v1.0.0
+ *
+ * @author xDec0de_
+ */
+public class RegionTransitionsEvent extends MCEvent {
+
+	private final List<Transition> transitions;
+	private final static HandlerList handlers = new HandlerList();
+
+	public RegionTransitionsEvent(@Nonnull List<Transition> transitions) {
+		this.transitions = List.copyOf(transitions);
+	}
+
+	/**
+	 * Gets every transition of this event.
+	 *
+	 * @return An unmodifiable {@link List} with every transition of this event.
+	 *
+	 * @since SkyUtils v1.0.0
+	 */
+	@Nonnull
+	public final List<Transition> getTransitions() {
+		return transitions;
+	}
+
+	@Nonnull
+	@Override
+	public HandlerList getHandlers() {
+		return handlers;
+	}
+
+	@Nonnull
+	public static HandlerList getHandlerList() {
+		return handlers;
+	}
+
+	/**
+	 * A single region transition.
+	 *
+	 * @param player The {@link Player} that entered or left the {@code region}.
+	 * @param region The {@link Region} that was entered or left.
+	 * @param entered {@code true} if the {@code player} entered the {@code region},
+	 * {@code false} if the {@code player} left it.
+	 *
+	 * @since SkyUtils v1.0.0
+	 */
+	public record Transition(@Nonnull Player player, @Nonnull Region region, boolean entered) {}
+}
@@ -0,0 +1,65 @@
+package net.codersky.skyutils.spigot.time;
+
+import net.codersky.skyutils.time.BudgetedExecutor;
+import net.codersky.skyutils.time.Task;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+
+/**
+ * The Spigot implementation of {@link BudgetedExecutor}, which drains
+ * its queue every tick on the main thread of the server.
+ * <p>
+ * Usage example, spending up to 5 milliseconds of every tick:
+ * <pre>
+ * SpigotBudgetedExecutor executor = new SpigotBudgetedExecutor(utils.getScheduler(), TimeUnit.MILLISECONDS, 5);
+ * executor.start();
+ * for (Player player : players)
+ *     executor.execute(() -&gt; rebuildMenu(player));
+ * </pre>
+ *
+ * @since SkyUtils 1.0.0
+ *
+ * @author xDec0de_
+ */
+public class SpigotBudgetedExecutor extends BudgetedExecutor {
+
+	private final SpigotTaskScheduler scheduler;
+	private Task task = null;
+
+	public SpigotBudgetedExecutor(@NotNull SpigotTaskScheduler scheduler, @NotNull TimeUnit unit, long budget) {
+		super(unit, budget);
+		this.scheduler = Objects.requireNonNull(scheduler, "scheduler cannot be null.");
+	}
+
+	public SpigotBudgetedExecutor(@NotNull JavaPlugin plugin, @NotNull TimeUnit unit, long budget) {
+		this(SpigotTaskScheduler.create(Objects.requireNonNull(plugin, "plugin cannot be null.")), unit, budget);
+	}
+
+	@Override
+	public synchronized void start() {
+		if (task == null)
+			task = scheduler.repeatSync(this::drain, 1, 1);
+	}
+
+	@Override
+	public synchronized void stop() {
+		if (task == null)
+			return;
+		task.cancel();
+		task = null;
+	}
+
+	@Override
+	public synchronized boolean isStarted() {
+		return task != null;
+	}
+
+	@Override
+	protected void onError(@NotNull Runnable task, @NotNull Throwable ex) {
+		scheduler.getPlugin().getLogger().log(Level.SEVERE, "A budgeted task generated an exception", ex);
+	}
+}
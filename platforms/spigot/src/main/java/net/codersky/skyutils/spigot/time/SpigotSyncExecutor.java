@@ -0,0 +1,203 @@
+package net.codersky.skyutils.spigot.time;
+
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+
+/**
+ * An {@link Executor} that runs tasks on the main thread of the server.
+ * Instead of scheduling one Bukkit task per submitted task, submitted
+ * tasks are queued and a single Bukkit task is scheduled to drain the
+ * queue on the next tick. Any amount of tasks submitted during the same
+ * tick will then only cost one Bukkit task.
+ * <p>
+ * Tasks submitted while the queue is being drained will run on the
+ * next tick, so a task that submits itself again can't block the
+ * main thread forever.
+ * <p>
+ * If a drain can't be scheduled, for example because the plugin was disabled,
+ * every queued task is discarded, as no drain would ever run them. Futures
+ * created with {@link #supply(Supplier)} or {@link #thenApply(CompletionStage, Function)}
+ * are then completed exceptionally instead of never completing.
+ *
+ * @since SkyUtils 1.0.0
+ *
+ * @author xDec0de_
+ */
+public class SpigotSyncExecutor implements Executor {
+
+	private final JavaPlugin plugin;
+	private final Queue<Runnable> queue = new ConcurrentLinkedQueue<>();
+	private final AtomicBoolean scheduled = new AtomicBoolean(false);
+
+	public SpigotSyncExecutor(@NotNull JavaPlugin plugin) {
+		this.plugin = Objects.requireNonNull(plugin, "plugin cannot be null.");
+	}
+
+	/**
+	 * Gets the amount of tasks waiting to be run on the next drain.
+	 *
+	 * @return The amount of queued tasks.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	public int getQueuedCount() {
+		return queue.size();
+	}
+
+	@Override
+	public void execute(@NotNull Runnable task) {
+		queue.add(Objects.requireNonNull(task, "task cannot be null."));
+		if (!scheduled.compareAndSet(false, true))
+			return;
+		try {
+			schedule(this::drain);
+		} catch (RuntimeException ex) {
+			// Otherwise no drain would ever be scheduled again, for example if the plugin was disabled.
+			scheduled.set(false);
+			discardQueued(task, ex);
+			throw ex;
+		}
+	}
+
+	/**
+	 * Other threads may have queued tasks expecting the drain that failed to
+	 * be scheduled to run them, so every queued task is discarded instead of
+	 * being stranded, failing the futures of the ones that have one.
+	 */
+	private void discardQueued(@NotNull Runnable failed, @NotNull RuntimeException ex) {
+		int discarded = 0;
+		Runnable task;
+		while ((task = queue.poll()) != null) {
+			if (task instanceof SyncFuture<?> future)
+				future.future.completeExceptionally(ex);
+			else if (task != failed)
+				discarded++;
+		}
+		if (discarded != 0)
+			plugin.getLogger().log(Level.SEVERE, discarded + " synchronous tasks were discarded as they couldn't be scheduled", ex);
+	}
+
+	/**
+	 * Gets a {@link CompletableFuture} that is completed with the value obtained by
+	 * calling {@code supplier} on this executor. Unlike {@link CompletableFuture#supplyAsync(Supplier, Executor)},
+	 * the future is completed exceptionally if the task can't be scheduled.
+	 *
+	 * @param supplier The {@link Supplier} that will provide the value.
+	 *
+	 * @return The new {@link CompletableFuture}.
+	 *
+	 * @param <T> The type of value provided by the {@code supplier}.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	@NotNull
+	public <T> CompletableFuture<T> supply(@NotNull Supplier<? extends T> supplier) {
+		Objects.requireNonNull(supplier, "supplier cannot be null.");
+		final CompletableFuture<T> future = new CompletableFuture<>();
+		submit(future, supplier);
+		return future;
+	}
+
+	/**
+	 * Applies {@code function} to the result of {@code stage} on this executor once
+	 * {@code stage} completes. Unlike {@link CompletableFuture#thenApplyAsync(Function, Executor)},
+	 * the returned future is completed exceptionally if the task can't be scheduled.
+	 *
+	 * @param stage The {@link CompletionStage} to wait for.
+	 * @param function The {@link Function} to apply to the result of {@code stage}.
+	 *
+	 * @return A new {@link CompletableFuture} with the result of {@code function}.
+	 *
+	 * @param <T> The result type of {@code stage}.
+	 * @param <R> The result type of {@code function}.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	@NotNull
+	public <T, R> CompletableFuture<R> thenApply(@NotNull CompletionStage<T> stage, @NotNull Function<? super T, ? extends R> function) {
+		Objects.requireNonNull(function, "function cannot be null.");
+		final CompletableFuture<R> future = new CompletableFuture<>();
+		stage.whenComplete((value, error) -> {
+			if (error == null)
+				submit(future, () -> function.apply(value));
+			else
+				future.completeExceptionally(error);
+		});
+		return future;
+	}
+
+	private <T> void submit(@NotNull CompletableFuture<T> future, @NotNull Supplier<? extends T> supplier) {
+		try {
+			execute(new SyncFuture<>(future, supplier));
+		} catch (RuntimeException ex) {
+			future.completeExceptionally(ex);
+		}
+	}
+
+	/**
+	 * Schedules the task that drains the queue of this executor
+	 * to run on the next tick. Platforms that don't support the
+	 * Bukkit scheduler can override this method.
+	 *
+	 * @param drain The task that drains the queue.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	protected void schedule(@NotNull Runnable drain) {
+		Bukkit.getScheduler().runTask(plugin, drain);
+	}
+
+	/**
+	 * Gets the {@link JavaPlugin} that owns this executor.
+	 *
+	 * @return The {@link JavaPlugin} that owns this executor.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	@NotNull
+	public JavaPlugin getPlugin() {
+		return plugin;
+	}
+
+	private void drain() {
+		scheduled.set(false);
+		for (int pending = queue.size(); pending > 0; pending--) {
+			final Runnable task = queue.poll();
+			if (task == null)
+				return;
+			try {
+				task.run();
+			} catch (Throwable ex) {
+				plugin.getLogger().log(Level.SEVERE, "A synchronous task generated an exception", ex);
+			}
+		}
+		// Tasks submitted during the drain found "scheduled" as false, so another drain is already on its way.
+	}
+
+	/** A queued task that completes a future, so the future can be failed if the task is discarded. */
+	private record SyncFuture<T>(@NotNull CompletableFuture<T> future, @NotNull Supplier<? extends T> supplier) implements Runnable {
+
+		@Override
+		public void run() {
+			if (future.isDone()) // Timed out or cancelled.
+				return;
+			try {
+				future.complete(supplier.get());
+			} catch (Throwable ex) {
+				future.completeExceptionally(ex);
+			}
+		}
+	}
+}
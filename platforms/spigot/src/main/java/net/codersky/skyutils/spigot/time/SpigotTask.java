@@ -11,8 +11,20 @@ public class SpigotTask implements Task {
 		this.task = task;
 	}
 
+	/**
+	 * Constructor for {@link SpigotTask} implementations that don't
+	 * wrap a {@link BukkitTask}. These implementations must override
+	 * {@link #cancel()}.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	protected SpigotTask() {
+		this.task = null;
+	}
+
 	@Override
 	public void cancel() {
-		task.cancel();
+		if (task != null)
+			task.cancel();
 	}
 }
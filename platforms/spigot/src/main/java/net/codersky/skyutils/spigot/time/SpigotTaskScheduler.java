@@ -1,11 +1,21 @@
 package net.codersky.skyutils.spigot.time;
 
+import net.codersky.skyutils.time.MCTicks;
 import net.codersky.skyutils.time.TaskScheduler;
 import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.entity.Entity;
 import org.bukkit.plugin.java.JavaPlugin;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * The Spigot platform {@link TaskScheduler}.
@@ -14,16 +24,90 @@ import java.util.concurrent.TimeUnit;
  */
 public class SpigotTaskScheduler implements TaskScheduler {
 
+	private static final boolean FOLIA = hasClass("io.papermc.paper.threadedregions.RegionizedServer");
+	private static final String FOLIA_SCHEDULER = "net.codersky.skyutils.paper.time.FoliaTaskScheduler";
+
 	private final JavaPlugin plugin;
+	private final SpigotSyncExecutor syncExecutor;
 
 	public SpigotTaskScheduler(@NotNull JavaPlugin plugin) {
+		this(plugin, new SpigotSyncExecutor(plugin));
+	}
+
+	protected SpigotTaskScheduler(@NotNull JavaPlugin plugin, @NotNull SpigotSyncExecutor syncExecutor) {
 		this.plugin = plugin;
+		this.syncExecutor = syncExecutor;
 	}
 
-	private long toTicks(@NotNull TimeUnit unit, int amount) {
-		return unit.toMillis(amount) * 50;
+	/**
+	 * Creates the {@link SpigotTaskScheduler} that suits the server for a {@code plugin}.
+	 * The Bukkit scheduler isn't available on Folia, so the {@code FoliaTaskScheduler}
+	 * of the Paper platform is created there, otherwise, a regular {@link SpigotTaskScheduler}
+	 * is created. Prefer this method over the constructor unless you need a specific scheduler.
+	 *
+	 * @param plugin The {@link JavaPlugin} that will own the scheduler.
+	 *
+	 * @return A new {@link SpigotTaskScheduler} for {@code plugin}.
+	 *
+	 * @throws IllegalStateException if the server runs Folia but the Paper
+	 * platform of SkyUtils isn't available.
+	 *
+	 * @since SkyUtils 1.0.0
+	 *
+	 * @see #isFolia()
+	 */
+	@NotNull
+	public static SpigotTaskScheduler create(@NotNull JavaPlugin plugin) {
+		if (!FOLIA)
+			return new SpigotTaskScheduler(plugin);
+		// Can't be referenced directly as the Spigot platform doesn't depend on Paper.
+		try {
+			return (SpigotTaskScheduler) Class.forName(FOLIA_SCHEDULER).getConstructor(JavaPlugin.class).newInstance(plugin);
+		} catch (ReflectiveOperationException ex) {
+			throw new IllegalStateException("Folia servers require the Paper platform of SkyUtils", ex);
+		}
 	}
 
+	/**
+	 * Checks if the server is running Folia or a fork of it.
+	 *
+	 * @return {@code true} if the server is running Folia, {@code false} otherwise.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	public static boolean isFolia() {
+		return FOLIA;
+	}
+
+	private static boolean hasClass(@NotNull String name) {
+		try {
+			Class.forName(name);
+			return true;
+		} catch (ClassNotFoundException ex) {
+			return false;
+		}
+	}
+
+	/**
+	 * Gets the {@link JavaPlugin} that owns this scheduler.
+	 *
+	 * @return The {@link JavaPlugin} that owns this scheduler.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	@NotNull
+	public JavaPlugin getPlugin() {
+		return plugin;
+	}
+
+	static long toTicks(@NotNull TimeUnit unit, int amount) {
+		return MCTicks.toTicks(unit, amount);
+	}
+
+	/*
+	 - Synchronous tasks
+	 */
+
 	@NotNull
 	@Override
 	public SpigotTask runSync(@NotNull Runnable task) {
@@ -42,6 +126,135 @@ public class SpigotTaskScheduler implements TaskScheduler {
 		return new SpigotTask(Bukkit.getScheduler().runTaskTimer(plugin, task, toTicks(unit, delay), toTicks(unit, repeat)));
 	}
 
+	/*
+	 - Entity bound synchronous tasks
+	 */
+
+	/**
+	 * Runs a synchronous {@code task} on the thread that owns the specified
+	 * {@code entity}. Spigot only has one main thread, so this is the same as
+	 * {@link #runSync(Runnable)}, but platforms with multithreaded regions,
+	 * such as Folia, will run the task on the region of the {@code entity}.
+	 * Using this method instead of {@link #runSync(Runnable)} whenever a task
+	 * interacts with an entity makes your plugin compatible with such platforms.
+	 *
+	 * @param entity The {@link Entity} that the task interacts with.
+	 * @param task The task to run.
+	 *
+	 * @return The scheduled {@link SpigotTask}, {@code null} if the platform
+	 * can't schedule the task because the {@code entity} has been removed.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	@Nullable
+	public SpigotTask runSync(@NotNull Entity entity, @NotNull Runnable task) {
+		return runSync(task);
+	}
+
+	/**
+	 * Entity bound version of {@link #delaySync(Runnable, TimeUnit, int)}.
+	 * See {@link #runSync(Entity, Runnable)} for more information.
+	 *
+	 * @param entity The {@link Entity} that the task interacts with.
+	 * @param task The task to run.
+	 * @param unit The {@link TimeUnit} of {@code delay}.
+	 * @param delay The delay before running the {@code task}.
+	 *
+	 * @return The scheduled {@link SpigotTask}, {@code null} if the platform
+	 * can't schedule the task because the {@code entity} has been removed.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	@Nullable
+	public SpigotTask delaySync(@NotNull Entity entity, @NotNull Runnable task, @NotNull TimeUnit unit, int delay) {
+		return delaySync(task, unit, delay);
+	}
+
+	/**
+	 * Entity bound version of {@link #repeatSync(Runnable, TimeUnit, int, int)}.
+	 * See {@link #runSync(Entity, Runnable)} for more information.
+	 *
+	 * @param entity The {@link Entity} that the task interacts with.
+	 * @param task The task to run.
+	 * @param unit The {@link TimeUnit} of {@code delay} and {@code repeat}.
+	 * @param delay The delay before running the {@code task} for the first time.
+	 * @param repeat The delay between executions of the {@code task}.
+	 *
+	 * @return The scheduled {@link SpigotTask}, {@code null} if the platform
+	 * can't schedule the task because the {@code entity} has been removed.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	@Nullable
+	public SpigotTask repeatSync(@NotNull Entity entity, @NotNull Runnable task, @NotNull TimeUnit unit, int delay, int repeat) {
+		return repeatSync(task, unit, delay, repeat);
+	}
+
+	/*
+	 - Location bound synchronous tasks
+	 */
+
+	/**
+	 * Runs a synchronous {@code task} on the thread that owns the specified
+	 * {@code location}. Spigot only has one main thread, so this is the same as
+	 * {@link #runSync(Runnable)}, but platforms with multithreaded regions,
+	 * such as Folia, will run the task on the region of the {@code location}.
+	 * Using this method instead of {@link #runSync(Runnable)} whenever a task
+	 * interacts with blocks makes your plugin compatible with such platforms.
+	 *
+	 * @param location The {@link Location} that the task interacts with.
+	 * @param task The task to run.
+	 *
+	 * @return The scheduled {@link SpigotTask}.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	@NotNull
+	public SpigotTask runSync(@NotNull Location location, @NotNull Runnable task) {
+		return runSync(task);
+	}
+
+	/**
+	 * Location bound version of {@link #delaySync(Runnable, TimeUnit, int)}.
+	 * See {@link #runSync(Location, Runnable)} for more information.
+	 *
+	 * @param location The {@link Location} that the task interacts with.
+	 * @param task The task to run.
+	 * @param unit The {@link TimeUnit} of {@code delay}.
+	 * @param delay The delay before running the {@code task}.
+	 *
+	 * @return The scheduled {@link SpigotTask}.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	@NotNull
+	public SpigotTask delaySync(@NotNull Location location, @NotNull Runnable task, @NotNull TimeUnit unit, int delay) {
+		return delaySync(task, unit, delay);
+	}
+
+	/**
+	 * Location bound version of {@link #repeatSync(Runnable, TimeUnit, int, int)}.
+	 * See {@link #runSync(Location, Runnable)} for more information.
+	 *
+	 * @param location The {@link Location} that the task interacts with.
+	 * @param task The task to run.
+	 * @param unit The {@link TimeUnit} of {@code delay} and {@code repeat}.
+	 * @param delay The delay before running the {@code task} for the first time.
+	 * @param repeat The delay between executions of the {@code task}.
+	 *
+	 * @return The scheduled {@link SpigotTask}.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	@NotNull
+	public SpigotTask repeatSync(@NotNull Location location, @NotNull Runnable task, @NotNull TimeUnit unit, int delay, int repeat) {
+		return repeatSync(task, unit, delay, repeat);
+	}
+
+	/*
+	 - Asynchronous tasks
+	 */
+
 	@NotNull
 	@Override
 	public SpigotTask runAsync(@NotNull Runnable task) {
@@ -51,7 +264,7 @@ public class SpigotTaskScheduler implements TaskScheduler {
 	@NotNull
 	@Override
 	public SpigotTask delayAsync(@NotNull Runnable task, @NotNull TimeUnit unit, int delay) {
-		return new SpigotTask(Bukkit.getScheduler().runTaskLaterAsynchronously(plugin, task, unit.toMillis(delay) * 50));
+		return new SpigotTask(Bukkit.getScheduler().runTaskLaterAsynchronously(plugin, task, toTicks(unit, delay)));
 	}
 
 	@NotNull
@@ -59,4 +272,47 @@ public class SpigotTaskScheduler implements TaskScheduler {
 	public SpigotTask repeatAsync(@NotNull Runnable task, @NotNull TimeUnit unit, int delay, int repeat) {
 		return new SpigotTask(Bukkit.getScheduler().runTaskTimerAsynchronously(plugin, task, toTicks(unit, delay), toTicks(unit, repeat)));
 	}
+
+	/**
+	 * Gets the {@link SpigotSyncExecutor} of this scheduler. Tasks submitted to
+	 * it, including synchronous continuations of futures, are batched and
+	 * run by a single Bukkit task on the next tick.
+	 *
+	 * @return The {@link SpigotSyncExecutor} of this scheduler.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	@NotNull
+	@Override
+	public SpigotSyncExecutor getSyncExecutor() {
+		return syncExecutor;
+	}
+
+	/*
+	 - Futures
+	 */
+
+	// Delegated to the sync executor, which fails futures whose task gets discarded.
+
+	@NotNull
+	@Override
+	public <T> CompletableFuture<T> supplySync(@NotNull Supplier<T> supplier) {
+		return syncExecutor.supply(supplier);
+	}
+
+	@NotNull
+	@Override
+	public <T, R> CompletableFuture<R> thenApplySync(@NotNull CompletionStage<T> stage, @NotNull Function<? super T, ? extends R> function) {
+		return syncExecutor.thenApply(stage, function);
+	}
+
+	@NotNull
+	@Override
+	public <T> CompletableFuture<Void> thenAcceptSync(@NotNull CompletionStage<T> stage, @NotNull Consumer<? super T> action) {
+		Objects.requireNonNull(action, "action cannot be null.");
+		return syncExecutor.thenApply(stage, value -> {
+			action.accept(value);
+			return null;
+		});
+	}
 }
@@ -0,0 +1,105 @@
+package net.codersky.skyutils.spigot.regions;
+
+import org.bukkit.World;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PolygonRegionTest {
+
+	private static final UUID WORLD_ID = new UUID(3, 4);
+	private static final World WORLD = (World) Proxy.newProxyInstance(World.class.getClassLoader(), new Class<?>[] {World.class},
+			(proxy, method, args) -> switch (method.getName()) {
+				case "getUID" -> WORLD_ID;
+				case "getName" -> "world";
+				case "getMinHeight" -> -64;
+				case "getMaxHeight" -> 320;
+				case "equals" -> proxy == args[0];
+				case "hashCode" -> WORLD_ID.hashCode();
+				default -> throw new UnsupportedOperationException(method.getName());
+			});
+
+	/* A U shape, with a notch open to the north between X 2 and 4. */
+	private static final PolygonRegion NOTCHED = new PolygonRegion(WORLD,
+			new int[] {0, 6, 6, 4, 4, 2, 2, 0}, new int[] {0, 0, 6, 6, 2, 2, 6, 6}, 0, 10);
+
+	@Test
+	void verticesAreInside() {
+		final int[] x = {0, 6, 6, 4, 4, 2, 2, 0}, z = {0, 0, 6, 6, 2, 2, 6, 6};
+		for (int i = 0; i < x.length; i++)
+			assertTrue(NOTCHED.containsColumn(x[i], z[i]), "Vertex " + x[i] + ", " + z[i]);
+	}
+
+	@Test
+	void axisAlignedEdgesAreInside() {
+		for (int i = 0; i <= 6; i++) {
+			assertTrue(NOTCHED.containsColumn(i, 0), "South edge " + i);
+			assertTrue(NOTCHED.containsColumn(0, i), "West edge " + i);
+			assertTrue(NOTCHED.containsColumn(6, i), "East edge " + i);
+		}
+		for (int z = 2; z <= 6; z++) {
+			assertTrue(NOTCHED.containsColumn(2, z), "Notch west edge " + z);
+			assertTrue(NOTCHED.containsColumn(4, z), "Notch east edge " + z);
+		}
+		assertTrue(NOTCHED.containsColumn(3, 2), "Notch bottom edge");
+	}
+
+	@Test
+	void notchAndOutsideAreExcluded() {
+		for (int z = 3; z <= 6; z++)
+			assertFalse(NOTCHED.containsColumn(3, z), "Notch " + z);
+		assertFalse(NOTCHED.containsColumn(-1, 3));
+		assertFalse(NOTCHED.containsColumn(7, 3));
+		assertFalse(NOTCHED.containsColumn(3, -1));
+		assertFalse(NOTCHED.containsColumn(1, 7));
+	}
+
+	@Test
+	void notchedShapeMatchesItsDefinition() {
+		for (int x = -2; x <= 8; x++)
+			for (int z = -2; z <= 8; z++) {
+				final boolean expected = x >= 0 && x <= 6 && z >= 0 && z <= 6 && !(x > 2 && x < 4 && z > 2);
+				assertEquals(expected, NOTCHED.containsColumn(x, z), x + ", " + z);
+			}
+	}
+
+	@Test
+	void diagonalEdgesMatchTheirLine() {
+		// Hypotenuse from (5, 0) to (0, 3), so blocks are inside if 3x + 5z <= 15.
+		final PolygonRegion triangle = new PolygonRegion(WORLD, new int[] {0, 5, 0}, new int[] {0, 0, 3}, 0, 0);
+		for (int x = -1; x <= 6; x++)
+			for (int z = -1; z <= 4; z++) {
+				final boolean expected = x >= 0 && z >= 0 && 3 * x + 5 * z <= 15;
+				assertEquals(expected, triangle.containsColumn(x, z), x + ", " + z);
+			}
+		// Hypotenuse from (4, 0) to (0, 4), which has a block on every step.
+		final PolygonRegion halfSquare = new PolygonRegion(WORLD, new int[] {0, 4, 0}, new int[] {0, 0, 4}, 0, 0);
+		for (int i = 0; i <= 4; i++) {
+			assertTrue(halfSquare.containsColumn(i, 4 - i), "On edge " + i);
+			assertFalse(halfSquare.containsColumn(i + 1, 4 - i), "Past edge " + i);
+		}
+	}
+
+	@Test
+	void vertexOrderDoesntMatter() {
+		final PolygonRegion reversed = new PolygonRegion(WORLD,
+				new int[] {0, 2, 2, 4, 4, 6, 6, 0}, new int[] {6, 6, 2, 2, 6, 6, 0, 0}, 0, 10);
+		for (int x = -2; x <= 8; x++)
+			for (int z = -2; z <= 8; z++)
+				assertEquals(NOTCHED.containsColumn(x, z), reversed.containsColumn(x, z), x + ", " + z);
+	}
+
+	@Test
+	void yLimitsAreInclusive() {
+		assertTrue(NOTCHED.contains(1, 0, 1));
+		assertTrue(NOTCHED.contains(1, 10, 1));
+		assertFalse(NOTCHED.contains(1, -1, 1));
+		assertFalse(NOTCHED.contains(1, 11, 1));
+		assertFalse(NOTCHED.contains(3, 5, 4));
+	}
+}
@@ -0,0 +1,140 @@
+package net.codersky.skyutils.spigot.regions;
+
+import org.bukkit.World;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RegionStorageTest {
+
+	private static final UUID WORLD_ID = new UUID(1, 2);
+	private static final World WORLD = (World) Proxy.newProxyInstance(World.class.getClassLoader(), new Class<?>[] {World.class},
+			(proxy, method, args) -> switch (method.getName()) {
+				case "getUID" -> WORLD_ID;
+				case "getName" -> "world";
+				case "getMinHeight" -> -64;
+				case "getMaxHeight" -> 320;
+				case "equals" -> proxy == args[0];
+				case "hashCode" -> WORLD_ID.hashCode();
+				default -> throw new UnsupportedOperationException(method.getName());
+			});
+
+	@TempDir
+	File directory;
+	RegionStorage storage;
+
+	@BeforeEach
+	void createStorage() {
+		storage = new RegionStorage(directory);
+	}
+
+	private static List<Region> everyType() {
+		final SphereRegion sphere = new SphereRegion(WORLD, 1, 2, 3, 4.5);
+		final PolygonRegion polygon = new PolygonRegion(WORLD, new int[] {0, 5, 3}, new int[] {0, 0, 4}, 1, 9);
+		return List.of(
+				new Region2D(WORLD, -5, -6, 7, 8),
+				new Region3D(WORLD, 1, -64, 2, 30, 319, 40),
+				polygon,
+				new CylinderRegion(WORLD, 10, -10, 3.25, 0, 5),
+				sphere,
+				CompositeRegion.union(new Region2D(WORLD, 0, 0, 1, 1), sphere),
+				CompositeRegion.difference(new Region2D(WORLD, 0, 0, 9, 9), sphere, CompositeRegion.union(polygon)));
+	}
+
+	private File getLogFile() {
+		return new File(directory, WORLD_ID + ".regions.log");
+	}
+
+	@Test
+	void savedRegionsOfEveryTypeAreLoaded() throws IOException {
+		storage.save(WORLD_ID, everyType());
+		assertEquals(Set.copyOf(everyType()), storage.load(WORLD));
+	}
+
+	@Test
+	void loggedRegionsOfEveryTypeAreLoaded() throws IOException {
+		storage.append(WORLD_ID, List.of(), everyType());
+		assertEquals(Set.copyOf(everyType()), storage.load(WORLD));
+	}
+
+	@Test
+	void logIsReplayedInOrderOverTheDataFile() throws IOException {
+		final Region a = new Region2D(WORLD, 0, 0, 1, 1), b = new Region2D(WORLD, 2, 2, 3, 3);
+		final Region c = new SphereRegion(WORLD, 0, 0, 0, 2), d = new CylinderRegion(WORLD, 0, 0, 2, 0, 1);
+		storage.save(WORLD_ID, List.of(a, b));
+		storage.append(WORLD_ID, List.of(a), List.of(c));
+		storage.append(WORLD_ID, List.of(), List.of(d, a));
+		storage.append(WORLD_ID, List.of(d), List.of());
+		assertEquals(Set.of(a, b, c), storage.load(WORLD));
+	}
+
+	@Test
+	void saveMergesTheLog() throws IOException {
+		final Region a = new Region2D(WORLD, 0, 0, 1, 1), b = new Region2D(WORLD, 2, 2, 3, 3);
+		storage.append(WORLD_ID, List.of(), List.of(a, b));
+		storage.save(WORLD_ID, storage.load(WORLD));
+		assertFalse(getLogFile().exists());
+		assertEquals(Set.of(a, b), storage.load(WORLD));
+	}
+
+	@Test
+	void truncatedLogEntriesAreIgnoredAndTheLogIsMerged() throws IOException {
+		final Region a = new Region2D(WORLD, 0, 0, 1, 1), b = new Region3D(WORLD, 0, 0, 0, 5, 5, 5);
+		storage.append(WORLD_ID, List.of(), List.of(a));
+		storage.append(WORLD_ID, List.of(), List.of(b));
+		// Cut the last entry, as a crash while writing it would.
+		try (RandomAccessFile log = new RandomAccessFile(getLogFile(), "rw")) {
+			log.setLength(log.length() - 3);
+		}
+		assertEquals(Set.of(a), storage.load(WORLD));
+		assertFalse(getLogFile().exists());
+		// New entries must not be appended after the truncated one.
+		storage.append(WORLD_ID, List.of(), List.of(b));
+		assertEquals(Set.of(a, b), storage.load(WORLD));
+	}
+
+	@Test
+	void worldsWithoutFilesHaveNoRegions() throws IOException {
+		assertTrue(storage.load(WORLD).isEmpty());
+	}
+
+	@Test
+	void bigLogsNeedCompaction() throws IOException {
+		storage.save(WORLD_ID, List.of(new Region2D(WORLD, 0, 0, 1, 1)));
+		assertFalse(storage.needsCompaction(WORLD_ID));
+		final ArrayList<Region> added = new ArrayList<>();
+		for (int i = 0; i < 5000; i++)
+			added.add(new Region3D(WORLD, i, 0, 0, i + 1, 1, 1));
+		storage.append(WORLD_ID, List.of(), added);
+		assertTrue(storage.needsCompaction(WORLD_ID));
+		storage.save(WORLD_ID, storage.load(WORLD));
+		assertFalse(storage.needsCompaction(WORLD_ID));
+	}
+
+	@Test
+	void subclassesCantBeStored() {
+		final Region2D custom = new Region2D(WORLD, 0, 0, 1, 1) {
+			@Override
+			public int getPriority() {
+				return 5;
+			}
+		};
+		assertFalse(RegionStorage.canStore(custom));
+		assertThrows(IllegalArgumentException.class, () -> RegionStorage.encode(List.of(), List.of(custom)));
+		assertFalse(getLogFile().exists());
+	}
+}
@@ -0,0 +1,31 @@
+package net.codersky.skyutils.spigot.time;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SpigotTaskSchedulerTest {
+
+	@Test
+	void subTickDurationsAreRoundedUp() {
+		// Rounding down would turn short delays into zero tick delays, running tasks right away.
+		assertEquals(1, SpigotTaskScheduler.toTicks(TimeUnit.NANOSECONDS, 1));
+		assertEquals(1, SpigotTaskScheduler.toTicks(TimeUnit.MILLISECONDS, 1));
+		assertEquals(1, SpigotTaskScheduler.toTicks(TimeUnit.MILLISECONDS, 49));
+		assertEquals(2, SpigotTaskScheduler.toTicks(TimeUnit.MILLISECONDS, 99));
+	}
+
+	@Test
+	void nonPositiveDurationsAreZero() {
+		assertEquals(0, SpigotTaskScheduler.toTicks(TimeUnit.MILLISECONDS, 0));
+		assertEquals(0, SpigotTaskScheduler.toTicks(TimeUnit.SECONDS, -1));
+	}
+
+	@Test
+	void largeDurationsDontOverflow() {
+		assertEquals(Integer.MAX_VALUE * 20L, SpigotTaskScheduler.toTicks(TimeUnit.SECONDS, Integer.MAX_VALUE));
+		assertEquals(Integer.MAX_VALUE * 1_728_000L, SpigotTaskScheduler.toTicks(TimeUnit.DAYS, Integer.MAX_VALUE));
+	}
+}
@@ -48,6 +48,7 @@ public class VelocityUtils<P> extends SkyUtils<P> {
 	 */
 
 	@NotNull
+	@Override
 	public VelocityPlayerProvider getPlayerProvider() {
 		return SkyUtilsVelocity.getInstance().getPlayerProvider();
 	}
@@ -72,8 +73,7 @@ public class VelocityUtils<P> extends SkyUtils<P> {
 	@Nullable
 	@Override
 	public VelocityPlayer getPlayer(@NotNull String name) {
-		final Player on = getProxy().getPlayer(name).orElse(null);
-		return on == null ? null : getPlayer(on);
+		return getPlayerProvider().getOnline(name);
 	}
 
 	@NotNull
@@ -16,6 +16,14 @@ import java.util.concurrent.TimeUnit;
 public abstract class CustomVelocityPlayerProvider<ON extends VelocityPlayer, OFF extends OfflineVelocityPlayer>
 		extends PlayerProvider<Player, ON, UUID, OFF> {
 
+	protected CustomVelocityPlayerProvider() {
+		super();
+	}
+
+	protected CustomVelocityPlayerProvider(boolean concurrent) {
+		super(concurrent);
+	}
+
 	@NotNull
 	@Override
 	public UUID getOnlineUUID(@NotNull Player on) {
@@ -39,8 +47,7 @@ public abstract class CustomVelocityPlayerProvider<ON extends VelocityPlayer, OF
 	}
 
 	@Override
-	protected void scheduleOfflineRemoval(@NotNull UUID uuid) {
-		SkyUtilsVelocity.getInstance().getScheduler()
-				.delaySync(() -> offlineCache.remove(uuid), TimeUnit.MINUTES, 20);
+	protected void scheduleOfflineSweeper(@NotNull Runnable sweeper) {
+		SkyUtilsVelocity.getInstance().getScheduler().repeatAsync(sweeper, TimeUnit.MINUTES, 1, 1);
 	}
 }
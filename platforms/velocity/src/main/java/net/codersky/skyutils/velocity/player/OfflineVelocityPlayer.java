@@ -3,6 +3,7 @@ package net.codersky.skyutils.velocity.player;
 import com.velocitypowered.api.proxy.Player;
 import com.velocitypowered.api.proxy.ProxyServer;
 import net.codersky.skyutils.crossplatform.player.OfflineSkyPlayer;
+import net.codersky.skyutils.crossplatform.player.PlayerAttachments;
 import net.codersky.skyutils.velocity.SkyUtilsVelocity;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -12,6 +13,7 @@ import java.util.UUID;
 public class OfflineVelocityPlayer implements OfflineSkyPlayer {
 
 	private final UUID uuid;
+	private final PlayerAttachments attachments = new PlayerAttachments();
 
 	protected OfflineVelocityPlayer(@NotNull UUID uuid) {
 		this.uuid = uuid;
@@ -56,4 +58,10 @@ public class OfflineVelocityPlayer implements OfflineSkyPlayer {
 		final Player online = getOnlineHandle();
 		return online != null && online.isActive();
 	}
+
+	@NotNull
+	@Override
+	public PlayerAttachments getAttachments() {
+		return attachments;
+	}
 }
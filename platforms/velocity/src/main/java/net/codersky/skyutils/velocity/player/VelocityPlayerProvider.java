@@ -5,6 +5,10 @@ import org.jetbrains.annotations.NotNull;
 
 public class VelocityPlayerProvider extends CustomVelocityPlayerProvider<VelocityPlayer, OfflineVelocityPlayer> {
 
+	public VelocityPlayerProvider() {
+		super(true);
+	}
+
 	@NotNull
 	@Override
 	protected VelocityPlayer buildOnline(@NotNull Player player) {
@@ -5,16 +5,19 @@ import com.velocitypowered.api.scheduler.Scheduler;
 import net.codersky.skyutils.time.TaskScheduler;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 
 public class VelocityTaskScheduler implements TaskScheduler {
 
 	private final Scheduler scheduler;
 	private final Object plugin;
+	private final Executor executor;
 
 	public VelocityTaskScheduler(@NotNull ProxyServer server, @NotNull Object plugin) {
 		this.scheduler = server.getScheduler();
 		this.plugin = plugin;
+		this.executor = this::runAsync;
 	}
 
 	@NotNull
@@ -55,4 +58,24 @@ public class VelocityTaskScheduler implements TaskScheduler {
 				.repeat(repeat, unit)
 				.schedule());
 	}
+
+	/**
+	 * Velocity doesn't have a main thread, so this returns
+	 * the same {@link Executor} as {@link #getAsyncExecutor()}.
+	 *
+	 * @return An {@link Executor} that runs tasks asynchronously.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	@NotNull
+	@Override
+	public Executor getSyncExecutor() {
+		return executor;
+	}
+
+	@NotNull
+	@Override
+	public Executor getAsyncExecutor() {
+		return executor;
+	}
 }
@@ -11,9 +11,16 @@ dependencies {
 	compileOnly(libs.adventure.minimessage)
 	compileOnly(libs.adventure.serializer.legacy)
 	compileOnly(libs.adventure.serializer.gson)
+	testImplementation(platform(libs.junit.bom))
+	testImplementation(libs.junit.jupiter)
+	testRuntimeOnly(libs.junit.platform.launcher)
 }
 
 tasks {
+	test {
+		useJUnitPlatform()
+	}
+
 	shadowJar {
 		exclude(
 			"org/jetbrains/**",
@@ -3,6 +3,8 @@ package net.codersky.skyutils;
 import net.codersky.jsky.Reloadable;
 import net.codersky.skyutils.cmd.GlobalCommand;
 import net.codersky.skyutils.crossplatform.SkyConsole;
+import net.codersky.skyutils.crossplatform.player.OfflineSkyPlayer;
+import net.codersky.skyutils.crossplatform.player.PlayerProvider;
 import net.codersky.skyutils.crossplatform.player.SkyPlayer;
 import net.codersky.skyutils.time.TaskScheduler;
 import org.jetbrains.annotations.NotNull;
@@ -52,6 +54,9 @@ public abstract class SkyUtils<P> {
 	 - Players
 	 */
 
+	@NotNull
+	public abstract PlayerProvider<?, ? extends SkyPlayer, ?, ? extends OfflineSkyPlayer> getPlayerProvider();
+
 	@NotNull
 	public abstract Collection<? extends SkyPlayer> getOnlinePlayers();
 
@@ -4,7 +4,7 @@ import net.codersky.jsky.collections.JCollections;
 import net.codersky.jsky.math.JNumbers;
 import net.codersky.skyutils.SkyUtils;
 import net.codersky.skyutils.crossplatform.message.SkyMessageMap;
-import net.codersky.skyutils.crossplatform.player.SkyPlayer;
+import net.codersky.skyutils.crossplatform.player.PlayerProvider;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -226,6 +226,8 @@ public interface SkyCommand<P, S extends SkyCommandSender> {
 	/**
 	 * Utility method to get a {@link List} with the names of all current <b>online</b> players.
 	 * This is generally used on {@link #onTab(SkyCommandSender, String[]) tab complete}.
+	 * The returned {@link List} is an immutable snapshot provided by
+	 * {@link PlayerProvider#getOnlineNames()}, so calling this method is free.
 	 *
 	 * @return A {@link List} with the names of all current <b>online</b> players.
 	 *
@@ -233,7 +235,24 @@ public interface SkyCommand<P, S extends SkyCommandSender> {
 	 */
 	@NotNull
 	default List<String> getOnlineNames() {
-		return getUtils().getOnlinePlayers().stream().map(SkyPlayer::getName).toList();
+		return getUtils().getPlayerProvider().getOnlineNames();
+	}
+
+	/**
+	 * Utility method to get a {@link List} with the names of all current <b>online</b>
+	 * players that start with the specified {@code prefix}, ignoring case.
+	 * This is generally used on {@link #onTab(SkyCommandSender, String[]) tab complete}.
+	 *
+	 * @param prefix The prefix to search for, generally the argument being completed.
+	 *
+	 * @return A {@link List} with the names of all current <b>online</b> players
+	 * that start with {@code prefix}.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	@NotNull
+	default List<String> getOnlineNames(@NotNull String prefix) {
+		return getUtils().getPlayerProvider().getOnlineNames(prefix);
 	}
 
 	/*
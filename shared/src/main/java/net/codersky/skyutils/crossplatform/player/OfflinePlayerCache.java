@@ -0,0 +1,287 @@
+package net.codersky.skyutils.crossplatform.player;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A bounded cache of {@link OfflineSkyPlayer offline players} used by
+ * {@link PlayerProvider player providers}. Players expire after a fixed
+ * amount of time since they were added, and the oldest players are
+ * evicted if the cache grows over its maximum size.
+ * <p>
+ * Instead of scheduling one removal task per player, expired players are
+ * evicted by {@link #sweep()}, which is meant to be called periodically by a
+ * single task. Players are kept on a queue sorted by insertion time, so a
+ * sweep only visits the players that actually expired. Expired players that
+ * weren't swept yet are never returned by {@link #get(UUID)}.
+ * <p>
+ * Reads are lock-free and this class can be safely accessed from any thread.
+ *
+ * @param <OFF> The {@link OfflineSkyPlayer offline} player type.
+ *
+ * @since SkyUtils 1.0.0
+ *
+ * @author xDec0de_
+ */
+public class OfflinePlayerCache<OFF extends OfflineSkyPlayer> {
+
+	private final ConcurrentHashMap<UUID, Entry<OFF>> entries = new ConcurrentHashMap<>();
+	private final ArrayDeque<Entry<OFF>> writeOrder = new ArrayDeque<>();
+	private final long expireNanos;
+	private final int maxSize;
+
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final LongAdder evictions = new LongAdder();
+
+	/**
+	 * Creates a new {@link OfflinePlayerCache}.
+	 *
+	 * @param unit The {@link TimeUnit} of {@code expireAfterWrite}.
+	 * @param expireAfterWrite How long players stay on the cache after being added.
+	 * @param maxSize The maximum amount of players that can be on the cache.
+	 *
+	 * @throws NullPointerException if {@code unit} is {@code null}.
+	 * @throws IllegalArgumentException if {@code expireAfterWrite} or {@code maxSize} are minor than 1.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	public OfflinePlayerCache(@NotNull TimeUnit unit, long expireAfterWrite, int maxSize) {
+		if (expireAfterWrite < 1)
+			throw new IllegalArgumentException("expireAfterWrite must be at least 1.");
+		if (maxSize < 1)
+			throw new IllegalArgumentException("maxSize must be at least 1.");
+		this.expireNanos = Objects.requireNonNull(unit, "unit cannot be null.").toNanos(expireAfterWrite);
+		this.maxSize = maxSize;
+	}
+
+	/*
+	 - Access
+	 */
+
+	/**
+	 * Gets a cached {@link OFF offline} player by {@link UUID}.
+	 *
+	 * @param uuid The {@link UUID} of the player to get.
+	 *
+	 * @return The cached {@link OFF offline} player, {@code null}
+	 * if not cached or expired.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	@Nullable
+	public OFF get(@NotNull UUID uuid) {
+		final Entry<OFF> entry = entries.get(uuid);
+		if (entry == null || entry.isExpired(System.nanoTime())) {
+			misses.increment();
+			return null;
+		}
+		hits.increment();
+		return entry.player;
+	}
+
+	/**
+	 * Adds an {@link OFF offline} player to the cache, replacing any
+	 * previous player with the same {@link UUID}. If the cache is full,
+	 * the oldest players will be evicted.
+	 *
+	 * @param uuid The {@link UUID} of the player.
+	 * @param player The {@link OFF offline} player to add.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	public void put(@NotNull UUID uuid, @NotNull OFF player) {
+		final Entry<OFF> entry = new Entry<>(uuid, player, System.nanoTime() + expireNanos);
+		synchronized (writeOrder) {
+			entries.put(uuid, entry);
+			writeOrder.addLast(entry);
+			while (entries.size() > maxSize)
+				evictHead();
+		}
+	}
+
+	/**
+	 * Removes a player from the cache. This doesn't count as an eviction.
+	 *
+	 * @param uuid The {@link UUID} of the player to remove.
+	 *
+	 * @return The removed {@link OFF offline} player, {@code null} if not cached.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	@Nullable
+	public OFF remove(@NotNull UUID uuid) {
+		final Entry<OFF> entry = entries.remove(uuid);
+		return entry == null ? null : entry.player;
+	}
+
+	/**
+	 * Removes every player from the cache.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	public void clear() {
+		synchronized (writeOrder) {
+			entries.clear();
+			writeOrder.clear();
+		}
+	}
+
+	/**
+	 * Gets the amount of players currently on the cache, which may
+	 * include expired players that haven't been {@link #sweep() swept} yet.
+	 *
+	 * @return The amount of cached players.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	public int size() {
+		return entries.size();
+	}
+
+	/**
+	 * Gets the maximum amount of players that can be on this cache.
+	 *
+	 * @return The maximum size of this cache.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	public int getMaxSize() {
+		return maxSize;
+	}
+
+	/**
+	 * Gets how long players stay on this cache after being added.
+	 *
+	 * @param unit The {@link TimeUnit} to return the time in.
+	 *
+	 * @return How long players stay on this cache.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	public long getExpireAfterWrite(@NotNull TimeUnit unit) {
+		return unit.convert(expireNanos, TimeUnit.NANOSECONDS);
+	}
+
+	/*
+	 - Eviction
+	 */
+
+	/**
+	 * Evicts every expired player from the cache. This is meant
+	 * to be called periodically by a single task.
+	 *
+	 * @return The amount of evicted players.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	public int sweep() {
+		final long now = System.nanoTime();
+		int evicted = 0;
+		synchronized (writeOrder) {
+			Entry<OFF> head;
+			while ((head = writeOrder.peekFirst()) != null && (head.isExpired(now) || entries.get(head.uuid) != head))
+				if (evictHead())
+					evicted++;
+		}
+		return evicted;
+	}
+
+	/** Must be called while holding the writeOrder lock. */
+	private boolean evictHead() {
+		final Entry<OFF> head = writeOrder.pollFirst();
+		// Entries that were removed or replaced are skipped, they don't count as evictions.
+		if (head == null || !entries.remove(head.uuid, head))
+			return false;
+		evictions.increment();
+		return true;
+	}
+
+	/*
+	 - Statistics
+	 */
+
+	/**
+	 * Gets the amount of times {@link #get(UUID)} found a cached player.
+	 *
+	 * @return The amount of cache hits.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	public long getHitCount() {
+		return hits.sum();
+	}
+
+	/**
+	 * Gets the amount of times {@link #get(UUID)} didn't find a cached player.
+	 *
+	 * @return The amount of cache misses.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	public long getMissCount() {
+		return misses.sum();
+	}
+
+	/**
+	 * Gets the amount of players that were evicted from the cache, either
+	 * because they expired or because the cache was full.
+	 *
+	 * @return The amount of evictions.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	public long getEvictionCount() {
+		return evictions.sum();
+	}
+
+	/**
+	 * Gets the ratio of {@link #get(UUID)} calls that found a cached player.
+	 *
+	 * @return The hit rate of the cache, from 0 to 1. 1 if
+	 * {@link #get(UUID)} hasn't been called yet.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	public double getHitRate() {
+		final long hitCount = hits.sum();
+		final long total = hitCount + misses.sum();
+		return total == 0 ? 1 : (double) hitCount / total;
+	}
+
+	/**
+	 * Resets every statistic of this cache.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	public void resetStats() {
+		hits.reset();
+		misses.reset();
+		evictions.reset();
+	}
+
+	/** Compared by identity, so a replaced entry never matches the current one. */
+	private static final class Entry<OFF> {
+
+		private final UUID uuid;
+		private final OFF player;
+		private final long expiresAt;
+
+		private Entry(@NotNull UUID uuid, @NotNull OFF player, long expiresAt) {
+			this.uuid = uuid;
+			this.player = player;
+			this.expiresAt = expiresAt;
+		}
+
+		private boolean isExpired(long now) {
+			return now - expiresAt >= 0;
+		}
+	}
+}
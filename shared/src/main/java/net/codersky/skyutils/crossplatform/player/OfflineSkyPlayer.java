@@ -59,6 +59,19 @@ public interface OfflineSkyPlayer extends Replacement {
 	@NotNull
 	String getName();
 
+	/**
+	 * Gets the {@link PlayerAttachments} of this {@link OfflineSkyPlayer player}, which
+	 * can be used to store any data related to this player. Attachments are shared
+	 * between the online and offline instances of the same player and are
+	 * automatically cleaned up by the {@link PlayerProvider}.
+	 *
+	 * @return The {@link PlayerAttachments} of this {@link OfflineSkyPlayer player}.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	@NotNull
+	PlayerAttachments getAttachments();
+
 	@NotNull
 	@Override
 	default String asReplacement() {
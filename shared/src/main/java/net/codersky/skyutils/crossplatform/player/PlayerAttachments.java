@@ -0,0 +1,606 @@
+package net.codersky.skyutils.crossplatform.player;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Per-player storage of plugin data, such as cooldowns, session counters
+ * or flags, available through {@link OfflineSkyPlayer#getAttachments()}.
+ * This removes the need of keeping a {@code HashMap<UUID, ...>} for each
+ * piece of data and of cleaning it up when players quit.
+ * <p>
+ * Data is accessed with keys, which receive an id when created. Each
+ * player stores its data on arrays indexed by those ids, so accessing
+ * data is a plain array access without any hashing. {@link IntKey int},
+ * {@link LongKey long} and {@link DoubleKey double} keys use primitive
+ * arrays, so they don't box their values. Keys should be created once and
+ * stored as constants, then {@link AbstractKey#unregister() unregistered} when
+ * the plugin that created them gets disabled, so their ids can be reused by the
+ * keys created after a reload instead of making the arrays of every player grow:
+ * <pre>
+ * private static final PlayerAttachments.IntKey KILLS = new PlayerAttachments.IntKey("kills", Lifetime.SESSION);
+ *
+ * player.getAttachments().add(KILLS, 1);
+ *
+ * // On disable
+ * KILLS.unregister();
+ * </pre>
+ * The {@link PlayerProvider} keeps the attachments of a player when it
+ * goes offline and back online. Keys with a {@link Lifetime#SESSION SESSION}
+ * lifetime are cleared when the player quits, while keys with a
+ * {@link Lifetime#CACHED CACHED} lifetime are kept for as long as the player
+ * is cached by the provider.
+ * <p>
+ * This class isn't thread safe. Attachments of a player should only be accessed
+ * synchronously, from the thread that handles said player, such as the main thread
+ * on Spigot, and never from asynchronous tasks. Keys can be created and unregistered
+ * from any thread.
+ *
+ * @since SkyUtils 1.0.0
+ *
+ * @author xDec0de_
+ */
+public final class PlayerAttachments {
+
+	private static final Object[] NO_OBJECTS = new Object[0];
+	private static final int[] NO_INTS = new int[0];
+	private static final long[] NO_LONGS = new long[0];
+	private static final double[] NO_DOUBLES = new double[0];
+
+	private Storage storage = new Storage();
+
+	/**
+	 * Creates a new empty {@link PlayerAttachments} instance.
+	 * Only implementations of {@link OfflineSkyPlayer} should need this.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	public PlayerAttachments() {}
+
+	/*
+	 - Object attachments
+	 */
+
+	/**
+	 * Gets the value of an object attachment.
+	 *
+	 * @param key The {@link Key} of the attachment.
+	 *
+	 * @return The value of the attachment, {@code null} if not set.
+	 *
+	 * @param <T> The type of the attachment.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	@Nullable
+	@SuppressWarnings("unchecked")
+	public <T> T get(@NotNull Key<T> key) {
+		final Storage current = storage;
+		return owns(current.objectGens, key) ? (T) current.objects[key.id] : null;
+	}
+
+	/**
+	 * Gets the value of an object attachment, or {@code def} if not set.
+	 *
+	 * @param key The {@link Key} of the attachment.
+	 * @param def The value to return if the attachment isn't set.
+	 *
+	 * @return The value of the attachment, {@code def} if not set.
+	 *
+	 * @param <T> The type of the attachment.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	@NotNull
+	public <T> T getOrDefault(@NotNull Key<T> key, @NotNull T def) {
+		final T value = get(key);
+		return value == null ? def : value;
+	}
+
+	/**
+	 * Sets the value of an object attachment.
+	 *
+	 * @param key The {@link Key} of the attachment.
+	 * @param value The new value of the attachment, {@code null} to remove it.
+	 *
+	 * @return The previous value of the attachment, {@code null} if not set.
+	 *
+	 * @param <T> The type of the attachment.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	@Nullable
+	public <T> T set(@NotNull Key<T> key, @Nullable T value) {
+		final T previous = get(key);
+		if (value == null && previous == null)
+			return null;
+		final Storage current = storage;
+		if (!owns(current.objectGens, key)) {
+			if (key.id >= current.objects.length) {
+				final int size = Key.REGISTRY.capacity();
+				current.objects = Arrays.copyOf(current.objects, size);
+				current.objectGens = Arrays.copyOf(current.objectGens, size);
+			}
+			current.objectGens[key.id] = key.generation;
+		}
+		current.objects[key.id] = value;
+		return previous;
+	}
+
+	/**
+	 * Removes an object attachment.
+	 *
+	 * @param key The {@link Key} of the attachment.
+	 *
+	 * @return The removed value, {@code null} if not set.
+	 *
+	 * @param <T> The type of the attachment.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	@Nullable
+	public <T> T remove(@NotNull Key<T> key) {
+		return set(key, null);
+	}
+
+	/*
+	 - Int attachments
+	 */
+
+	/**
+	 * Gets the value of an {@code int} attachment.
+	 *
+	 * @param key The {@link IntKey} of the attachment.
+	 *
+	 * @return The value of the attachment, 0 if not set.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	public int get(@NotNull IntKey key) {
+		final Storage current = storage;
+		return owns(current.intGens, key) ? current.ints[key.id] : 0;
+	}
+
+	/**
+	 * Sets the value of an {@code int} attachment.
+	 *
+	 * @param key The {@link IntKey} of the attachment.
+	 * @param value The new value of the attachment.
+	 *
+	 * @return The previous value of the attachment, 0 if not set.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	public int set(@NotNull IntKey key, int value) {
+		final Storage current = storage;
+		if (!owns(current.intGens, key)) {
+			if (value == 0)
+				return 0;
+			if (key.id >= current.ints.length) {
+				final int size = IntKey.REGISTRY.capacity();
+				current.ints = Arrays.copyOf(current.ints, size);
+				current.intGens = Arrays.copyOf(current.intGens, size);
+			}
+			current.intGens[key.id] = key.generation;
+			current.ints[key.id] = value;
+			return 0;
+		}
+		final int previous = current.ints[key.id];
+		current.ints[key.id] = value;
+		return previous;
+	}
+
+	/**
+	 * Adds {@code amount} to the value of an {@code int} attachment.
+	 *
+	 * @param key The {@link IntKey} of the attachment.
+	 * @param amount The amount to add, can be negative.
+	 *
+	 * @return The new value of the attachment.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	public int add(@NotNull IntKey key, int amount) {
+		final int value = get(key) + amount;
+		set(key, value);
+		return value;
+	}
+
+	/*
+	 - Long attachments
+	 */
+
+	/**
+	 * Gets the value of a {@code long} attachment.
+	 *
+	 * @param key The {@link LongKey} of the attachment.
+	 *
+	 * @return The value of the attachment, 0 if not set.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	public long get(@NotNull LongKey key) {
+		final Storage current = storage;
+		return owns(current.longGens, key) ? current.longs[key.id] : 0;
+	}
+
+	/**
+	 * Sets the value of a {@code long} attachment.
+	 *
+	 * @param key The {@link LongKey} of the attachment.
+	 * @param value The new value of the attachment.
+	 *
+	 * @return The previous value of the attachment, 0 if not set.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	public long set(@NotNull LongKey key, long value) {
+		final Storage current = storage;
+		if (!owns(current.longGens, key)) {
+			if (value == 0)
+				return 0;
+			if (key.id >= current.longs.length) {
+				final int size = LongKey.REGISTRY.capacity();
+				current.longs = Arrays.copyOf(current.longs, size);
+				current.longGens = Arrays.copyOf(current.longGens, size);
+			}
+			current.longGens[key.id] = key.generation;
+			current.longs[key.id] = value;
+			return 0;
+		}
+		final long previous = current.longs[key.id];
+		current.longs[key.id] = value;
+		return previous;
+	}
+
+	/**
+	 * Adds {@code amount} to the value of a {@code long} attachment.
+	 *
+	 * @param key The {@link LongKey} of the attachment.
+	 * @param amount The amount to add, can be negative.
+	 *
+	 * @return The new value of the attachment.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	public long add(@NotNull LongKey key, long amount) {
+		final long value = get(key) + amount;
+		set(key, value);
+		return value;
+	}
+
+	/*
+	 - Double attachments
+	 */
+
+	/**
+	 * Gets the value of a {@code double} attachment.
+	 *
+	 * @param key The {@link DoubleKey} of the attachment.
+	 *
+	 * @return The value of the attachment, 0 if not set.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	public double get(@NotNull DoubleKey key) {
+		final Storage current = storage;
+		return owns(current.doubleGens, key) ? current.doubles[key.id] : 0;
+	}
+
+	/**
+	 * Sets the value of a {@code double} attachment.
+	 *
+	 * @param key The {@link DoubleKey} of the attachment.
+	 * @param value The new value of the attachment.
+	 *
+	 * @return The previous value of the attachment, 0 if not set.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	public double set(@NotNull DoubleKey key, double value) {
+		final Storage current = storage;
+		if (!owns(current.doubleGens, key)) {
+			if (value == 0)
+				return 0;
+			if (key.id >= current.doubles.length) {
+				final int size = DoubleKey.REGISTRY.capacity();
+				current.doubles = Arrays.copyOf(current.doubles, size);
+				current.doubleGens = Arrays.copyOf(current.doubleGens, size);
+			}
+			current.doubleGens[key.id] = key.generation;
+			current.doubles[key.id] = value;
+			return 0;
+		}
+		final double previous = current.doubles[key.id];
+		current.doubles[key.id] = value;
+		return previous;
+	}
+
+	/**
+	 * Adds {@code amount} to the value of a {@code double} attachment.
+	 *
+	 * @param key The {@link DoubleKey} of the attachment.
+	 * @param amount The amount to add, can be negative.
+	 *
+	 * @return The new value of the attachment.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	public double add(@NotNull DoubleKey key, double amount) {
+		final double value = get(key) + amount;
+		set(key, value);
+		return value;
+	}
+
+	/*
+	 - Lifecycle
+	 */
+
+	/**
+	 * Removes every attachment, regardless of its {@link Lifetime}.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	public void clear() {
+		final Storage current = storage;
+		current.objects = NO_OBJECTS;
+		current.objectGens = NO_INTS;
+		current.ints = NO_INTS;
+		current.intGens = NO_INTS;
+		current.longs = NO_LONGS;
+		current.longGens = NO_INTS;
+		current.doubles = NO_DOUBLES;
+		current.doubleGens = NO_INTS;
+	}
+
+	/**
+	 * Checks if {@code key} owns its slot on a generation array, that is, if the value
+	 * stored on the slot was set with {@code key} and not with an unregistered key that
+	 * had the same id.
+	 */
+	private static boolean owns(@NotNull int[] gens, @NotNull AbstractKey key) {
+		return key.id < gens.length && gens[key.id] == key.generation;
+	}
+
+	/**
+	 * Makes this instance share its storage with {@code other}, so both
+	 * instances see the same data. Used by {@link PlayerProvider} when
+	 * converting players between their online and offline instances.
+	 */
+	void share(@NotNull PlayerAttachments other) {
+		this.storage = other.storage;
+	}
+
+	/**
+	 * Removes every attachment with a {@link Lifetime#SESSION SESSION} lifetime,
+	 * and releases the objects of keys that have been unregistered.
+	 */
+	void clearSession() {
+		for (Key<?> key : Key.REGISTRY.session)
+			remove(key);
+		for (IntKey key : IntKey.REGISTRY.session)
+			set(key, 0);
+		for (LongKey key : LongKey.REGISTRY.session)
+			set(key, 0L);
+		for (DoubleKey key : DoubleKey.REGISTRY.session)
+			set(key, 0D);
+		final Storage current = storage;
+		final int[] owners = Key.REGISTRY.getGenerations();
+		for (int id = 0; id < current.objects.length && id < owners.length; id++) {
+			if (current.objectGens[id] != owners[id]) {
+				current.objects[id] = null;
+				current.objectGens[id] = 0;
+			}
+		}
+	}
+
+	/* Values are only valid if the generation of their slot matches the one of the key that reads them. */
+	private static final class Storage {
+		private Object[] objects = NO_OBJECTS;
+		private int[] objectGens = NO_INTS;
+		private int[] ints = NO_INTS;
+		private int[] intGens = NO_INTS;
+		private long[] longs = NO_LONGS;
+		private int[] longGens = NO_INTS;
+		private double[] doubles = NO_DOUBLES;
+		private int[] doubleGens = NO_INTS;
+	}
+
+	/*
+	 - Keys
+	 */
+
+	/**
+	 * Defines how long an attachment is kept.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	public enum Lifetime {
+		/** The attachment is removed when the player quits. */
+		SESSION,
+		/** The attachment is kept for as long as the player is cached by the {@link PlayerProvider}, online or offline. */
+		CACHED
+	}
+
+	/**
+	 * Base class of every attachment key.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	public static abstract sealed class AbstractKey permits Key, IntKey, LongKey, DoubleKey {
+
+		private final String name;
+		private final Lifetime lifetime;
+		private final KeyRegistry<?> registry;
+		final int id;
+		final int generation;
+		private boolean registered = true;
+
+		AbstractKey(@NotNull String name, @NotNull Lifetime lifetime, @NotNull KeyRegistry<?> registry) {
+			this.name = Objects.requireNonNull(name, "name cannot be null.");
+			this.lifetime = Objects.requireNonNull(lifetime, "lifetime cannot be null.");
+			this.registry = registry;
+			final KeyRegistry.Slot slot = registry.register(this);
+			this.id = slot.id();
+			this.generation = slot.generation();
+		}
+
+		/**
+		 * Unregisters this key, so its id can be reused by keys created later. Attachments of
+		 * this key are ignored from now on, even by new keys that reuse its id, and objects
+		 * stored with it are released as players quit. Keys should be unregistered when the
+		 * plugin that created them gets disabled, as the keys that the plugin creates again
+		 * after a reload would otherwise take new ids. This key must not be used after
+		 * being unregistered. Calling this method more than once has no effect.
+		 *
+		 * @since SkyUtils 1.0.0
+		 */
+		public void unregister() {
+			registry.unregister(this);
+		}
+
+		/**
+		 * Gets the name of this key, only used for debugging purposes.
+		 *
+		 * @return The name of this key.
+		 *
+		 * @since SkyUtils 1.0.0
+		 */
+		@NotNull
+		public String getName() {
+			return name;
+		}
+
+		/**
+		 * Gets the {@link Lifetime} of the attachments that use this key.
+		 *
+		 * @return The {@link Lifetime} of the attachments that use this key.
+		 *
+		 * @since SkyUtils 1.0.0
+		 */
+		@NotNull
+		public Lifetime getLifetime() {
+			return lifetime;
+		}
+
+		@Override
+		public String toString() {
+			return getClass().getSimpleName() + '{' + name + ", " + lifetime + '}';
+		}
+	}
+
+	/**
+	 * Allocates the ids of a type of key and keeps track of its {@link Lifetime#SESSION SESSION}
+	 * keys. Ids of unregistered keys are reused, but every key receives a new generation, so
+	 * values stored with the previous owner of an id are never read by the new one.
+	 */
+	private static final class KeyRegistry<K extends AbstractKey> {
+
+		private record Slot(int id, int generation) {}
+
+		private final List<K> session = new CopyOnWriteArrayList<>();
+		private final BitSet used = new BitSet();
+		/* Generation of the key that owns each id, 0 if the id is free. */
+		private int[] generations = NO_INTS;
+		private int nextGeneration = 1;
+		private volatile int capacity = 0;
+
+		@NotNull
+		@SuppressWarnings("unchecked")
+		synchronized Slot register(@NotNull AbstractKey key) {
+			final int id = used.nextClearBit(0);
+			used.set(id);
+			if (id >= generations.length)
+				generations = Arrays.copyOf(generations, Math.max(id + 1, generations.length * 2));
+			final int generation = nextGeneration++;
+			generations[id] = generation;
+			capacity = Math.max(capacity, id + 1);
+			if (key.getLifetime() == Lifetime.SESSION)
+				session.add((K) key);
+			return new Slot(id, generation);
+		}
+
+		synchronized void unregister(@NotNull AbstractKey key) {
+			if (!key.registered)
+				return;
+			key.registered = false;
+			session.remove(key);
+			used.clear(key.id);
+			generations[key.id] = 0;
+		}
+
+		/** Gets the size that arrays need to fit the id of every registered key. */
+		int capacity() {
+			return capacity;
+		}
+
+		@NotNull
+		synchronized int[] getGenerations() {
+			return generations.clone();
+		}
+	}
+
+	/**
+	 * Key of an object attachment.
+	 *
+	 * @param <T> The type of the attachment.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	public static final class Key<T> extends AbstractKey {
+
+		private static final KeyRegistry<Key<?>> REGISTRY = new KeyRegistry<>();
+
+		public Key(@NotNull String name, @NotNull Lifetime lifetime) {
+			super(name, lifetime, REGISTRY);
+		}
+	}
+
+	/**
+	 * Key of an {@code int} attachment.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	public static final class IntKey extends AbstractKey {
+
+		private static final KeyRegistry<IntKey> REGISTRY = new KeyRegistry<>();
+
+		public IntKey(@NotNull String name, @NotNull Lifetime lifetime) {
+			super(name, lifetime, REGISTRY);
+		}
+	}
+
+	/**
+	 * Key of a {@code long} attachment.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	public static final class LongKey extends AbstractKey {
+
+		private static final KeyRegistry<LongKey> REGISTRY = new KeyRegistry<>();
+
+		public LongKey(@NotNull String name, @NotNull Lifetime lifetime) {
+			super(name, lifetime, REGISTRY);
+		}
+	}
+
+	/**
+	 * Key of a {@code double} attachment.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	public static final class DoubleKey extends AbstractKey {
+
+		private static final KeyRegistry<DoubleKey> REGISTRY = new KeyRegistry<>();
+
+		public DoubleKey(@NotNull String name, @NotNull Lifetime lifetime) {
+			super(name, lifetime, REGISTRY);
+		}
+	}
+}
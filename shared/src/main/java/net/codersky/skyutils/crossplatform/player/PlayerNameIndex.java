@@ -0,0 +1,113 @@
+package net.codersky.skyutils.crossplatform.player;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Case-insensitive name index of online players, used internally by
+ * {@link PlayerProvider}. Exact lookups are a single hash lookup, while
+ * prefix searches use a binary search over a sorted array of names.
+ * The sorted names are published as an immutable snapshot that is only
+ * rebuilt when a player joins or quits, so reads never copy or lock.
+ * <p>
+ * Writes must be serialized by the owner of the index.
+ *
+ * @param <ON> The {@link SkyPlayer online} player type.
+ *
+ * @since SkyUtils 1.0.0
+ *
+ * @author xDec0de_
+ */
+final class PlayerNameIndex<ON extends SkyPlayer> {
+
+	private static final Snapshot EMPTY = new Snapshot(new String[0], List.of());
+
+	private final Map<String, ON> byName;
+	private volatile Snapshot snapshot = EMPTY;
+	private boolean dirty = false;
+
+	PlayerNameIndex(boolean concurrent) {
+		this.byName = concurrent ? new ConcurrentHashMap<>() : new HashMap<>();
+	}
+
+	@NotNull
+	private static String key(@NotNull String name) {
+		return name.toLowerCase(Locale.ROOT);
+	}
+
+	/*
+	 - Reads
+	 */
+
+	@Nullable
+	ON get(@NotNull String name) {
+		return byName.get(key(name));
+	}
+
+	@NotNull
+	List<String> getNames() {
+		return snapshot.names;
+	}
+
+	@NotNull
+	List<String> getNames(@NotNull String prefix) {
+		final Snapshot current = snapshot;
+		if (prefix.isEmpty())
+			return current.names;
+		final String lowPrefix = key(prefix);
+		final String[] keys = current.keys;
+		int from = Arrays.binarySearch(keys, lowPrefix);
+		if (from < 0)
+			from = -from - 1;
+		int to = from;
+		while (to < keys.length && keys[to].startsWith(lowPrefix))
+			to++;
+		return current.names.subList(from, to);
+	}
+
+	/*
+	 - Writes
+	 */
+
+	void add(@NotNull ON player) {
+		final ON previous = byName.put(key(player.getName()), player);
+		// Replacing a player with the same name (For example, a new instance on a server switch) doesn't change the names.
+		if (previous == null || !previous.getName().equals(player.getName()))
+			dirty = true;
+	}
+
+	void remove(@NotNull ON player) {
+		if (byName.remove(key(player.getName()), player))
+			dirty = true;
+	}
+
+	/** Rebuilds the snapshot if any name was added or removed since the last call. */
+	void publish() {
+		if (!dirty)
+			return;
+		dirty = false;
+		final String[] names = new String[byName.size()];
+		int i = 0;
+		for (ON player : byName.values()) {
+			if (i == names.length)
+				break;
+			names[i++] = player.getName();
+		}
+		final String[] sorted = Arrays.copyOf(names, i);
+		Arrays.sort(sorted, Comparator.comparing(PlayerNameIndex::key));
+		final String[] keys = new String[sorted.length];
+		for (int j = 0; j < sorted.length; j++)
+			keys[j] = key(sorted[j]);
+		snapshot = new Snapshot(keys, List.of(sorted));
+	}
+
+	private record Snapshot(@NotNull String[] keys, @NotNull List<String> names) {}
+}
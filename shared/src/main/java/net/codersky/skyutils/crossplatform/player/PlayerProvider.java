@@ -7,12 +7,33 @@ import org.jetbrains.annotations.Nullable;
 
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
 /**
  * {@code abstract class} used to provide {@link SkyPlayer online} and
  * {@link OfflineSkyPlayer offline} players to {@link SkyUtils} instances.
+ * <p>
+ * Providers can be created on concurrent mode with {@link #PlayerProvider(boolean)}.
+ * Concurrent providers can be safely accessed from any thread:
+ * <ul>
+ *     <li>The online cache uses a {@link ConcurrentHashMap}, so getters never lock.</li>
+ *     <li>{@link #getOnlineCache()} returns an immutable snapshot that can be
+ *     iterated safely while players join or quit. The snapshot is only
+ *     rebuilt when a player joins or quits, never when it's read.</li>
+ *     <li>{@link #handleJoin(Object)} and {@link #handleQuit(Object)} are serialized,
+ *     and a player is always present on at least one of the caches while
+ *     moving from one to the other.</li>
+ * </ul>
+ * Every provider included with SkyUtils uses concurrent mode.
+ * <p>
+ * Players that quit are moved to an {@link OfflinePlayerCache}, which is
+ * always thread safe, has a maximum size and expires players after some
+ * time. Expired players are evicted periodically by a single task that is
+ * {@link #scheduleOfflineSweeper(Runnable) scheduled} by the platform.
  *
  * @since SkyUtils 1.0.0
  *
@@ -26,20 +47,80 @@ import java.util.concurrent.TimeUnit;
 public abstract class PlayerProvider<ON_HANDLE, ON extends SkyPlayer, OFF_HANDLE, OFF extends OfflineSkyPlayer> {
 
 	/**
-	 * The {@link ON online} cache {@link HashMap}.
+	 * The {@link ON online} cache {@link Map}. This is a {@link HashMap} by
+	 * default or a {@link ConcurrentHashMap} on {@link #isConcurrent() concurrent} mode.
 	 * Only edit it manually if you <b>REALLY</b> know what you are doing.
 	 *
 	 * @since SkyUtils 1.0.0
 	 */
-	protected final HashMap<UUID, ON> onlineCache = new HashMap<>();
+	protected final Map<UUID, ON> onlineCache;
 
 	/**
-	 * The {@link OFF offline} cache {@link HashMap}.
+	 * The {@link OFF offline} {@link OfflinePlayerCache}.
 	 * Only edit it manually if you <b>REALLY</b> know what you are doing.
 	 *
 	 * @since SkyUtils 1.0.0
 	 */
-	protected final HashMap<UUID, OFF> offlineCache = new HashMap<>();
+	protected final OfflinePlayerCache<OFF> offlineCache;
+
+	private final boolean concurrent;
+	private final Object writeLock = new Object();
+	private volatile List<ON> onlineSnapshot = List.of();
+	private volatile boolean sweeperScheduled = false;
+	private final PlayerNameIndex<ON> nameIndex;
+
+	/**
+	 * Creates a new {@link PlayerProvider} that isn't {@link #isConcurrent() concurrent}.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	protected PlayerProvider() {
+		this(false);
+	}
+
+	/**
+	 * Creates a new {@link PlayerProvider}.
+	 *
+	 * @param concurrent Whether this provider can be safely accessed from
+	 * any thread or not. See the documentation of this class for more information.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	protected PlayerProvider(boolean concurrent) {
+		this(concurrent, TimeUnit.MINUTES, 20, 10_000);
+	}
+
+	/**
+	 * Creates a new {@link PlayerProvider} with a custom {@link OfflinePlayerCache} configuration.
+	 *
+	 * @param concurrent Whether this provider can be safely accessed from
+	 * any thread or not. See the documentation of this class for more information.
+	 * @param unit The {@link TimeUnit} of {@code offlineExpiry}.
+	 * @param offlineExpiry How long offline players stay cached after quitting. 20 minutes by default.
+	 * @param offlineMaxSize The maximum amount of cached offline players. 10.000 by default.
+	 *
+	 * @throws IllegalArgumentException if {@code offlineExpiry} or {@code offlineMaxSize} are minor than 1.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	protected PlayerProvider(boolean concurrent, @NotNull TimeUnit unit, long offlineExpiry, int offlineMaxSize) {
+		this.concurrent = concurrent;
+		this.onlineCache = concurrent ? new ConcurrentHashMap<>() : new HashMap<>();
+		this.offlineCache = new OfflinePlayerCache<>(unit, offlineExpiry, offlineMaxSize);
+		this.nameIndex = new PlayerNameIndex<>(concurrent);
+	}
+
+	/**
+	 * Checks if this {@link PlayerProvider} is on concurrent mode, meaning
+	 * that it can be safely accessed from any thread.
+	 *
+	 * @return {@code true} if this provider is on concurrent mode, {@code false} otherwise.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	public boolean isConcurrent() {
+		return concurrent;
+	}
 
 	/*
 	 - UUID providers
@@ -150,15 +231,86 @@ public abstract class PlayerProvider<ON_HANDLE, ON extends SkyPlayer, OFF_HANDLE
 	@Nullable
 	public OFF getOffline(@NotNull UUID uuid) {
 		final ON online = getOnline(uuid);
-		return online == null ? offlineCache.get(uuid) : toOffline(online);
+		return online == null ? offlineCache.get(uuid) : offlineOf(online);
+	}
+
+	/*
+	 - Player getters (Name)
+	 */
+
+	/**
+	 * Gets an {@link ON online} player instance by name, if cached. Names are
+	 * case-insensitive and indexed when players join, so this is a single
+	 * hash lookup instead of a search through every online player.
+	 *
+	 * @param name The exact name of the <b>online</b> player to get, case-insensitive.
+	 *
+	 * @return The matching {@link ON online} player instance, if cached.
+	 * {@code null} otherwise.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	@Nullable
+	public ON getOnline(@NotNull String name) {
+		return nameIndex.get(name);
+	}
+
+	/**
+	 * Gets the names of every {@link ON online} player, sorted alphabetically
+	 * without taking case into account. The returned {@link List} is an immutable
+	 * snapshot that is only rebuilt when a player joins or quits, so calling this
+	 * method is free and the {@link List} can be safely kept and iterated.
+	 *
+	 * @return An immutable {@link List} with the names of every {@link ON online} player.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	@NotNull
+	public List<String> getOnlineNames() {
+		return nameIndex.getNames();
+	}
+
+	/**
+	 * Gets the names of every {@link ON online} player that start with the specified
+	 * {@code prefix}, ignoring case, sorted alphabetically. This uses a binary search
+	 * over the {@link #getOnlineNames() names snapshot} and returns an immutable view
+	 * of it, which makes it ideal for tab completions.
+	 *
+	 * @param prefix The prefix to search for, case-insensitive.
+	 *
+	 * @return An immutable {@link List} with the names of every {@link ON online}
+	 * player that start with {@code prefix}.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	@NotNull
+	public List<String> getOnlineNames(@NotNull String prefix) {
+		return nameIndex.getNames(prefix);
 	}
 
 	/*
 	 - Public cache access
 	 */
 
+	/**
+	 * Gets the {@link OfflinePlayerCache} of this provider, mainly
+	 * useful to monitor its statistics.
+	 *
+	 * @return The {@link OfflinePlayerCache} of this provider.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	@NotNull
+	public OfflinePlayerCache<OFF> getOfflineCache() {
+		return offlineCache;
+	}
+
 	/**
 	 * Gets the {@link Collection} of all cached {@link ON online} players.
+	 * On {@link #isConcurrent() concurrent} mode, this returns an immutable
+	 * snapshot of the cache that will never change, so it can be iterated
+	 * from any thread without copying it. Otherwise, the returned
+	 * {@link Collection} is a live view of the cache.
 	 *
 	 * @return The {@link Collection} of all cached {@link ON online} players.
 	 *
@@ -166,7 +318,7 @@ public abstract class PlayerProvider<ON_HANDLE, ON extends SkyPlayer, OFF_HANDLE
 	 */
 	@NotNull
 	public Collection<ON> getOnlineCache() {
-		return onlineCache.values();
+		return concurrent ? onlineSnapshot : onlineCache.values();
 	}
 
 	/*
@@ -181,16 +333,40 @@ public abstract class PlayerProvider<ON_HANDLE, ON extends SkyPlayer, OFF_HANDLE
 	 * an {@link OFF offline} player is found, {@link #toOnline(OfflineSkyPlayer, Object)}
 	 * is used to convert it to an {@link ON online} player instance. If not,
 	 * {@link #buildOnline(Object)} is used to create a brand new {@link ON online} player instance.
-	 * Then, the instance is added to the internal {@link #onlineCache} {@link HashMap}.
+	 * Then, the instance is added to the internal {@link #onlineCache} {@link Map}.
 	 *
 	 * @param handle The online {@link ON_HANDLE player} to handle.
 	 *
 	 * @since SkyUtils 1.0.0
 	 */
 	protected void handleJoin(@NotNull ON_HANDLE handle) {
+		if (!concurrent) {
+			join(handle);
+			return;
+		}
+		synchronized (writeLock) {
+			join(handle);
+			onlineSnapshot = List.copyOf(onlineCache.values());
+		}
+	}
+
+	private void join(@NotNull ON_HANDLE handle) {
 		final UUID uuid = getOnlineUUID(handle);
-		final OFF offline = offlineCache.remove(uuid);
-		onlineCache.put(uuid, offline == null ? buildOnline(handle) : toOnline(offline, handle));
+		final OFF offline = offlineCache.get(uuid);
+		final ON online = offline == null ? buildOnline(handle) : toOnline(offline, handle);
+		final ON current = onlineCache.get(uuid);
+		if (offline != null)
+			online.getAttachments().share(offline.getAttachments());
+		else if (current != null)
+			online.getAttachments().share(current.getAttachments());
+		// Added to the online cache before being removed from the offline cache so concurrent readers always find it.
+		final ON previous = onlineCache.put(uuid, online);
+		if (offline != null)
+			offlineCache.remove(uuid);
+		if (previous != null)
+			nameIndex.remove(previous);
+		nameIndex.add(online);
+		nameIndex.publish();
 	}
 
 	/**
@@ -199,34 +375,69 @@ public abstract class PlayerProvider<ON_HANDLE, ON extends SkyPlayer, OFF_HANDLE
 	 * gets the {@link UUID} of the {@code handle} with {@link #getOnlineUUID(Object)}.
 	 * Then, attempts to remove a cached {@link ON_HANDLE online} player. If found,
 	 * it converts it {@link #toOffline(SkyPlayer) to an offline} player and adds it to
-	 * the {@link #offlineCache offline cache}. A task is then
-	 * {@link #scheduleOfflineRemoval(UUID) scheduled} to remove the {@link OFF offline}
-	 * player from the {@link #offlineCache offline cache}.
+	 * the {@link #offlineCache offline cache}, which will evict it once it expires.
+	 * The first call to this method {@link #scheduleOfflineSweeper(Runnable) schedules}
+	 * the task that evicts expired players.
 	 *
 	 * @param handle The online {@link ON_HANDLE player} to handle.
 	 *
 	 * @since SkyUtils 1.0.0
 	 */
 	protected void handleQuit(@NotNull ON_HANDLE handle) {
+		if (!concurrent) {
+			quit(handle);
+			return;
+		}
+		synchronized (writeLock) {
+			if (quit(handle))
+				onlineSnapshot = List.copyOf(onlineCache.values());
+		}
+	}
+
+	private boolean quit(@NotNull ON_HANDLE handle) {
 		final UUID uuid = getOnlineUUID(handle);
-		final ON online = onlineCache.remove(uuid);
+		final ON online = onlineCache.get(uuid);
 		if (online == null)
+			return false;
+		// Added to the offline cache before being removed from the online cache so concurrent readers always find it.
+		final OFF offline = offlineOf(online);
+		offline.getAttachments().clearSession();
+		offlineCache.put(uuid, offline);
+		onlineCache.remove(uuid);
+		nameIndex.remove(online);
+		nameIndex.publish();
+		if (!sweeperScheduled)
+			startSweeper();
+		return true;
+	}
+
+	/** Converts {@code online} to an offline player that shares its attachments. */
+	@NotNull
+	private OFF offlineOf(@NotNull ON online) {
+		final OFF offline = toOffline(online);
+		offline.getAttachments().share(online.getAttachments());
+		return offline;
+	}
+
+	private synchronized void startSweeper() {
+		if (sweeperScheduled)
 			return;
-		offlineCache.put(uuid, toOffline(online));
-		scheduleOfflineRemoval(uuid);
+		// Only flagged once scheduled, so a failure is retried on the next quit instead of disabling sweeping.
+		scheduleOfflineSweeper(offlineCache::sweep);
+		sweeperScheduled = true;
 	}
 
 	/**
-	 * Schedules the removal of an offline player from the {@link #offlineCache}.
-	 * This is used by {@link #handleQuit(Object)}. By default, all SkyUtils
-	 * {@link PlayerProvider player providers} use their plugin {@link TaskScheduler scheduler}
-	 * to {@link TaskScheduler#delaySync(Runnable, TimeUnit, int) schedule}
-	 * {@link HashMap#remove(Object) offlineCache.remove(uuid)} to be executed in
-	 * {@code 20} {@link TimeUnit#MINUTES minutes}.
+	 * Schedules the task that evicts expired players from the {@link #offlineCache}.
+	 * This is called once by {@link #handleQuit(Object)}, the first time a player quits.
+	 * By default, all SkyUtils {@link PlayerProvider player providers} use their plugin
+	 * {@link TaskScheduler scheduler} to {@link TaskScheduler#repeatAsync(Runnable, TimeUnit, int, int) repeat}
+	 * the {@code sweeper} asynchronously every {@link TimeUnit#MINUTES minute}.
 	 *
-	 * @param uuid The {@link UUID} of the player to remove.
+	 * @param sweeper The task that evicts expired players, which
+	 * can be run from any thread.
 	 *
 	 * @since SkyUtils 1.0.0
 	 */
-	protected abstract void scheduleOfflineRemoval(@NotNull UUID uuid);
+	protected abstract void scheduleOfflineSweeper(@NotNull Runnable sweeper);
 }
@@ -0,0 +1,326 @@
+package net.codersky.skyutils.time;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * An {@link Executor} that spreads synchronous work across ticks. Tasks are
+ * stored on a priority queue and every tick the platform implementation
+ * calls {@link #drain()}, which runs tasks until the time budget of the
+ * tick is spent. Any remaining task is deferred to the next tick, so a big
+ * amount of work, like rebuilding hundreds of inventories, doesn't run
+ * on a single tick and cause a lag spike.
+ * <p>
+ * Tasks with a higher priority run first and tasks with the same priority
+ * run in submission order. Tasks submitted with {@link #execute(Runnable)}
+ * use {@link #NORMAL_PRIORITY}.
+ * <p>
+ * A task can't be interrupted once it starts, so a drain may still take
+ * longer than its budget. That is known as an overrun and can be monitored
+ * with {@link #getOverrunCount()}, {@link #getLastOverrun(TimeUnit)} and
+ * {@link #getMaxOverrun(TimeUnit)}.
+ *
+ * @since SkyUtils 1.0.0
+ *
+ * @author xDec0de_
+ */
+public abstract class BudgetedExecutor implements Executor {
+
+	/** The lowest priority, for work that can wait. */
+	public static final int LOW_PRIORITY = -100;
+	/** The priority used by {@link #execute(Runnable)}. */
+	public static final int NORMAL_PRIORITY = 0;
+	/** The highest priority, for work that shouldn't wait. */
+	public static final int HIGH_PRIORITY = 100;
+
+	private static final Logger LOGGER = Logger.getLogger(BudgetedExecutor.class.getName());
+	/* Higher priorities first, compared directly as negating Integer.MIN_VALUE overflows. */
+	private static final Comparator<Entry> ORDER = ((Comparator<Entry>) (a, b) -> Integer.compare(b.priority, a.priority))
+			.thenComparingLong(entry -> entry.sequence);
+
+	private final PriorityBlockingQueue<Entry> queue = new PriorityBlockingQueue<>(64, ORDER);
+	private final AtomicLong sequence = new AtomicLong();
+	private volatile long budgetNanos;
+
+	private final LongAdder executed = new LongAdder();
+	private final LongAdder overruns = new LongAdder();
+	private volatile long lastOverrun = 0;
+	private volatile long maxOverrun = 0;
+	private volatile long lastDrainTime = 0;
+
+	/**
+	 * Creates a new {@link BudgetedExecutor}.
+	 *
+	 * @param unit The {@link TimeUnit} of {@code budget}.
+	 * @param budget The maximum amount of time to spend running tasks per tick.
+	 *
+	 * @throws NullPointerException if {@code unit} is {@code null}.
+	 * @throws IllegalArgumentException if {@code budget} is minor than 1.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	protected BudgetedExecutor(@NotNull TimeUnit unit, long budget) {
+		setBudget(unit, budget);
+	}
+
+	/*
+	 * Budget
+	 */
+
+	/**
+	 * Gets the time budget of this {@link BudgetedExecutor}, that is,
+	 * the maximum amount of time to spend running tasks per tick.
+	 *
+	 * @param unit The {@link TimeUnit} to return the budget in.
+	 *
+	 * @return The time budget of this {@link BudgetedExecutor}.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	public long getBudget(@NotNull TimeUnit unit) {
+		return unit.convert(budgetNanos, TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Sets the time budget of this {@link BudgetedExecutor}, that is,
+	 * the maximum amount of time to spend running tasks per tick.
+	 *
+	 * @param unit The {@link TimeUnit} of {@code budget}.
+	 * @param budget The new time budget.
+	 *
+	 * @throws NullPointerException if {@code unit} is {@code null}.
+	 * @throws IllegalArgumentException if {@code budget} is minor than 1.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	public void setBudget(@NotNull TimeUnit unit, long budget) {
+		if (budget < 1)
+			throw new IllegalArgumentException("budget must be at least 1.");
+		this.budgetNanos = Objects.requireNonNull(unit, "unit cannot be null.").toNanos(budget);
+	}
+
+	/*
+	 * Submission
+	 */
+
+	@Override
+	public void execute(@NotNull Runnable task) {
+		execute(task, NORMAL_PRIORITY);
+	}
+
+	/**
+	 * Queues a {@code task} to be run on a future tick. Tasks with a higher
+	 * {@code priority} will run first.
+	 *
+	 * @param task The task to run.
+	 * @param priority The priority of the task. See {@link #LOW_PRIORITY},
+	 * {@link #NORMAL_PRIORITY} and {@link #HIGH_PRIORITY}.
+	 *
+	 * @throws NullPointerException if {@code task} is {@code null}.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	public void execute(@NotNull Runnable task, int priority) {
+		Objects.requireNonNull(task, "task cannot be null.");
+		queue.add(new Entry(task, priority, sequence.getAndIncrement()));
+	}
+
+	/*
+	 * Execution
+	 */
+
+	/**
+	 * Runs queued tasks until the time budget is spent or the queue is empty.
+	 * Platform implementations call this method once per tick on the main
+	 * thread. At least one task is run on each call, so work can't be deferred
+	 * forever even if the budget is lower than the duration of a single task.
+	 *
+	 * @return The amount of tasks that were run.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	public int drain() {
+		final long budget = budgetNanos;
+		final long start = System.nanoTime();
+		long elapsed = 0;
+		int ran = 0;
+		Entry entry;
+		while ((ran == 0 || elapsed < budget) && (entry = queue.poll()) != null) {
+			try {
+				entry.task.run();
+			} catch (Throwable ex) {
+				onError(entry.task, ex);
+			}
+			ran++;
+			elapsed = System.nanoTime() - start;
+		}
+		if (ran != 0)
+			executed.add(ran);
+		lastDrainTime = elapsed;
+		if (elapsed > budget) {
+			final long overrun = elapsed - budget;
+			overruns.increment();
+			lastOverrun = overrun;
+			if (overrun > maxOverrun)
+				maxOverrun = overrun;
+		}
+		return ran;
+	}
+
+	/**
+	 * Called when a task throws an exception while being run by {@link #drain()}.
+	 * The exception is logged to the logger of this class by default, implementations
+	 * may override this method to use the logger of their plugin instead.
+	 *
+	 * @param task The task that failed.
+	 * @param ex The exception thrown by {@code task}.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	protected void onError(@NotNull Runnable task, @NotNull Throwable ex) {
+		LOGGER.log(Level.SEVERE, "A budgeted task generated an exception", ex);
+	}
+
+	/**
+	 * Removes every queued task without running it.
+	 *
+	 * @return The amount of tasks that were removed.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	public int clear() {
+		final int size = queue.size();
+		queue.clear();
+		return size;
+	}
+
+	/*
+	 * Metrics
+	 */
+
+	/**
+	 * Gets the amount of tasks waiting to be run.
+	 *
+	 * @return The amount of queued tasks.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	public int getQueuedCount() {
+		return queue.size();
+	}
+
+	/**
+	 * Gets the total amount of tasks that have been run by this {@link BudgetedExecutor}.
+	 *
+	 * @return The total amount of tasks that have been run.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	public long getExecutedCount() {
+		return executed.sum();
+	}
+
+	/**
+	 * Gets the amount of times a {@link #drain()} took longer than the time budget.
+	 *
+	 * @return The amount of budget overruns.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	public long getOverrunCount() {
+		return overruns.sum();
+	}
+
+	/**
+	 * Gets by how much the last budget overrun exceeded the time budget.
+	 *
+	 * @param unit The {@link TimeUnit} to return the time in.
+	 *
+	 * @return By how much the last overrun exceeded the time budget,
+	 * 0 if no overrun happened yet.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	public long getLastOverrun(@NotNull TimeUnit unit) {
+		return unit.convert(lastOverrun, TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Gets by how much the worst budget overrun exceeded the time budget.
+	 *
+	 * @param unit The {@link TimeUnit} to return the time in.
+	 *
+	 * @return By how much the worst overrun exceeded the time budget,
+	 * 0 if no overrun happened yet.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	public long getMaxOverrun(@NotNull TimeUnit unit) {
+		return unit.convert(maxOverrun, TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Gets how long the last {@link #drain()} took.
+	 *
+	 * @param unit The {@link TimeUnit} to return the time in.
+	 *
+	 * @return How long the last drain took.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	public long getLastDrainTime(@NotNull TimeUnit unit) {
+		return unit.convert(lastDrainTime, TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Resets the overrun metrics of this {@link BudgetedExecutor}.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	public void resetMetrics() {
+		overruns.reset();
+		executed.reset();
+		lastOverrun = 0;
+		maxOverrun = 0;
+	}
+
+	/*
+	 * Lifecycle
+	 */
+
+	/**
+	 * Starts calling {@link #drain()} once per tick. Calling this
+	 * method while already started has no effect.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	public abstract void start();
+
+	/**
+	 * Stops calling {@link #drain()}. Queued tasks are kept, so
+	 * {@link #start()} can be used again later to resume execution.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	public abstract void stop();
+
+	/**
+	 * Checks if this {@link BudgetedExecutor} is currently calling {@link #drain()} every tick.
+	 *
+	 * @return {@code true} if started, {@code false} otherwise.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	public abstract boolean isStarted();
+
+	private record Entry(@NotNull Runnable task, int priority, long sequence) {}
+}
@@ -0,0 +1,169 @@
+package net.codersky.skyutils.time;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Utility class that acts as the single conversion layer between
+ * real time and in-game ticks. {@link MCTimeUnit}, {@link TaskScheduler}
+ * and every platform scheduler rely on this class, so a conversion
+ * done here is guaranteed to be the same everywhere.
+ * <p>
+ * Conversions <b>to</b> ticks are rounded up, meaning that any
+ * positive amount of time will be at least one tick long and a
+ * task will never run earlier than requested. Conversions
+ * <b>from</b> ticks are exact for {@link TimeUnit} values of
+ * {@link TimeUnit#MILLISECONDS milliseconds} or lower precision
+ * and rounded down otherwise. Every conversion saturates at
+ * {@link Long#MAX_VALUE} instead of overflowing.
+ *
+ * @since SkyUtils 1.0.0
+ *
+ * @author xDec0de_
+ */
+public final class MCTicks {
+
+	/** The amount of ticks in one second. */
+	public static final long TICKS_PER_SECOND = 20;
+	/** The amount of ticks in one minute. */
+	public static final long TICKS_PER_MINUTE = TICKS_PER_SECOND * 60;
+	/** The amount of ticks in one hour. */
+	public static final long TICKS_PER_HOUR = TICKS_PER_MINUTE * 60;
+	/** The amount of milliseconds in one tick. */
+	public static final long MILLIS_PER_TICK = 1000 / TICKS_PER_SECOND;
+	/** The amount of nanoseconds in one tick. */
+	public static final long NANOS_PER_TICK = MILLIS_PER_TICK * 1_000_000;
+
+	private MCTicks() {}
+
+	/*
+	 - Real time to ticks
+	 */
+
+	/**
+	 * Converts the specified {@code amount} of {@code unit} to ticks,
+	 * rounding up to the next whole tick.
+	 *
+	 * @param unit The {@link TimeUnit} of {@code amount}.
+	 * @param amount The amount of {@code unit} to convert.
+	 *
+	 * @return The specified {@code amount} of {@code unit} converted
+	 * to ticks. 0 if {@code amount} is minor or equal to 0.
+	 *
+	 * @throws NullPointerException if {@code unit} is {@code null}.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	public static long toTicks(@NotNull TimeUnit unit, long amount) {
+		if (amount <= 0)
+			return 0;
+		return switch (unit) {
+		case NANOSECONDS, MICROSECONDS -> Math.ceilDiv(unit.toNanos(amount), NANOS_PER_TICK);
+		default -> Math.ceilDiv(unit.toMillis(amount), MILLIS_PER_TICK);
+		};
+	}
+
+	/**
+	 * Converts the specified {@code amount} of {@code unit} to ticks.
+	 *
+	 * @param unit The {@link MCTimeUnit} of {@code amount}.
+	 * @param amount The amount of {@code unit} to convert.
+	 *
+	 * @return The specified {@code amount} of {@code unit} converted
+	 * to ticks. 0 if {@code amount} is minor or equal to 0.
+	 *
+	 * @throws NullPointerException if {@code unit} is {@code null}.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	public static long toTicks(@NotNull MCTimeUnit unit, long amount) {
+		if (amount <= 0)
+			return 0;
+		return saturatedMultiply(amount, unit.getTicks());
+	}
+
+	/*
+	 - Ticks to real time
+	 */
+
+	/**
+	 * Converts the specified amount of {@code ticks} to {@code unit}.
+	 *
+	 * @param ticks The amount of ticks to convert.
+	 * @param unit The {@link TimeUnit} to convert to.
+	 *
+	 * @return The specified amount of {@code ticks} converted to
+	 * {@code unit}. 0 if {@code ticks} is minor or equal to 0.
+	 *
+	 * @throws NullPointerException if {@code unit} is {@code null}.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	public static long fromTicks(long ticks, @NotNull TimeUnit unit) {
+		if (ticks <= 0)
+			return 0;
+		return unit.convert(saturatedMultiply(ticks, MILLIS_PER_TICK), TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Converts the specified amount of {@code ticks} to {@code unit},
+	 * rounding down to the previous whole {@code unit}.
+	 *
+	 * @param ticks The amount of ticks to convert.
+	 * @param unit The {@link MCTimeUnit} to convert to.
+	 *
+	 * @return The specified amount of {@code ticks} converted to
+	 * {@code unit}. 0 if {@code ticks} is minor or equal to 0.
+	 *
+	 * @throws NullPointerException if {@code unit} is {@code null}.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	public static long fromTicks(long ticks, @NotNull MCTimeUnit unit) {
+		if (ticks <= 0)
+			return 0;
+		return ticks / unit.getTicks();
+	}
+
+	/**
+	 * Converts the specified amount of {@code ticks} to milliseconds.
+	 *
+	 * @param ticks The amount of ticks to convert.
+	 *
+	 * @return The specified amount of {@code ticks} converted to
+	 * milliseconds. 0 if {@code ticks} is minor or equal to 0.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	public static long toMillis(long ticks) {
+		return ticks <= 0 ? 0 : saturatedMultiply(ticks, MILLIS_PER_TICK);
+	}
+
+	/*
+	 - Scheduler helpers
+	 */
+
+	/**
+	 * Converts the specified amount of {@code ticks} to milliseconds, clamping
+	 * the result to {@link Integer#MAX_VALUE}. This is used by {@link TaskScheduler}
+	 * methods that accept tick amounts, as {@link TaskScheduler} methods use
+	 * {@code int} amounts of time.
+	 *
+	 * @param ticks The amount of ticks to convert.
+	 *
+	 * @return The specified amount of {@code ticks} converted to
+	 * milliseconds, never higher than {@link Integer#MAX_VALUE}.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	public static int toMillisInt(long ticks) {
+		return (int) Math.min(Integer.MAX_VALUE, toMillis(ticks));
+	}
+
+	private static long saturatedMultiply(long a, long b) {
+		final long high = Math.multiplyHigh(a, b);
+		final long low = a * b;
+		return (high == 0 && low >= 0) ? low : Long.MAX_VALUE;
+	}
+}
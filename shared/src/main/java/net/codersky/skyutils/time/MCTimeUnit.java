@@ -19,13 +19,31 @@ import org.jetbrains.annotations.NotNull;
 public enum MCTimeUnit {
 
 	/** Represents real time hours (72000 ticks per unit). */
-	HOURS,
+	HOURS(MCTicks.TICKS_PER_HOUR),
 	/** Represents real time minutes (1200 ticks per unit). */
-	MINUTES,
+	MINUTES(MCTicks.TICKS_PER_MINUTE),
 	/** Represents real time seconds (20 ticks per unit). */
-	SECONDS,
+	SECONDS(MCTicks.TICKS_PER_SECOND),
 	/** Represents in-game ticks, which are 20 per second. */
-	TICKS;
+	TICKS(1);
+
+	private final long ticks;
+
+	MCTimeUnit(long ticks) {
+		this.ticks = ticks;
+	}
+
+	/**
+	 * Gets the amount of {@link MCTimeUnit#TICKS ticks} that
+	 * one unit of this {@link MCTimeUnit} represents.
+	 *
+	 * @return The amount of {@link MCTimeUnit#TICKS ticks} per unit.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	public long getTicks() {
+		return ticks;
+	}
 
 	/**
 	 * Converts any <b>amount</b> of this {@link MCTimeUnit} to
@@ -41,14 +59,7 @@ public enum MCTimeUnit {
 	 * @since SkyUtils 1.0.0
 	 */
 	public long toTicks(long amount) {
-		if (amount <= 0)
-			return 0;
-		return switch (this) {
-		case TICKS -> amount;
-		case SECONDS -> amount * 20;
-		case MINUTES -> amount * 1200;
-		case HOURS -> amount * 7200;
-		};
+		return MCTicks.toTicks(this, amount);
 	}
 
 	/**
@@ -65,14 +76,7 @@ public enum MCTimeUnit {
 	 * @since SkyUtils 1.0.0
 	 */
 	public long toSeconds(long amount) {
-		if (amount <= 0)
-			return 0;
-		return switch (this) {
-		case TICKS -> amount / 20;
-		case SECONDS -> amount;
-		case MINUTES -> amount * 60;
-		case HOURS -> amount * 60 * 60;
-		};
+		return MCTicks.fromTicks(toTicks(amount), SECONDS);
 	}
 
 	/**
@@ -89,14 +93,7 @@ public enum MCTimeUnit {
 	 * @since SkyUtils 1.0.0
 	 */
 	public long toMinutes(long amount) {
-		if (amount <= 0)
-			return 0;
-		return switch (this) {
-		case TICKS -> amount / 60 / 20;
-		case SECONDS -> amount / 60;
-		case MINUTES -> amount;
-		case HOURS -> amount * 60;
-		};
+		return MCTicks.fromTicks(toTicks(amount), MINUTES);
 	}
 
 	/**
@@ -113,14 +110,7 @@ public enum MCTimeUnit {
 	 * @since SkyUtils 1.0.0
 	 */
 	public long toHours(long amount) {
-		if (amount <= 0)
-			return 0;
-		return switch (this) {
-		case TICKS -> amount / 60 / 60 / 20;
-		case SECONDS -> amount / 60 / 60;
-		case MINUTES -> amount / 60;
-		case HOURS -> amount;
-		};
+		return MCTicks.fromTicks(toTicks(amount), HOURS);
 	}
 
 	/**
@@ -138,14 +128,24 @@ public enum MCTimeUnit {
 	 * @since SkyUtils 1.0.0
 	 */
 	public long toUnit(long amount, MCTimeUnit unit) {
-		if (amount <= 0)
-			return 0;
-		return switch (unit) {
-		case TICKS -> toTicks(amount);
-		case SECONDS -> toSeconds(amount);
-		case MINUTES -> toMinutes(amount);
-		case HOURS -> toHours(amount);
-		};
+		return MCTicks.fromTicks(toTicks(amount), unit);
+	}
+
+	/**
+	 * Converts any <b>amount</b> of this {@link MCTimeUnit} to
+	 * the specified {@link TimeUnit}.
+	 *
+	 * @param amount the amount of this {@link MCTimeUnit} to convert.
+	 * @param unit the {@link TimeUnit} to convert to.
+	 *
+	 * @return The specified <b>amount</b> of this {@link MCTimeUnit} converted
+	 * to the specified <b>unit</b>. 0 if <b>amount</b> is minor or
+	 * equal to 0.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	public long toTimeUnit(long amount, @NotNull TimeUnit unit) {
+		return MCTicks.fromTicks(toTicks(amount), unit);
 	}
 
 	/**
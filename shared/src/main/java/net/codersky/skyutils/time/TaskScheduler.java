@@ -2,7 +2,13 @@ package net.codersky.skyutils.time;
 
 import org.jetbrains.annotations.NotNull;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 public interface TaskScheduler {
 
@@ -15,11 +21,31 @@ public interface TaskScheduler {
 	@NotNull Task delaySync(@NotNull Runnable task, @NotNull TimeUnit unit, int delay);
 
 	default @NotNull Task delaySync(@NotNull Runnable task, int tickDelay) {
-		return delaySync(task, TimeUnit.MILLISECONDS, tickDelay * 50); // 1 tick = 50 milliseconds
+		return delaySync(task, TimeUnit.MILLISECONDS, MCTicks.toMillisInt(tickDelay));
+	}
+
+	/**
+	 * Runs a synchronous {@code task} after the specified {@code delay}, converted
+	 * to ticks with {@link MCTicks#toTicks(MCTimeUnit, long)}.
+	 *
+	 * @param task The task to run.
+	 * @param unit The {@link MCTimeUnit} of {@code delay}.
+	 * @param delay The delay before running the {@code task}.
+	 *
+	 * @return The scheduled {@link Task}.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	default @NotNull Task delaySync(@NotNull Runnable task, @NotNull MCTimeUnit unit, int delay) {
+		return delaySync(task, TimeUnit.MILLISECONDS, MCTicks.toMillisInt(unit.toTicks(delay)));
 	}
 
 	@NotNull Task repeatSync(@NotNull Runnable task, @NotNull TimeUnit unit, int delay, int repeat);
 
+	default @NotNull Task repeatSync(@NotNull Runnable task, int tickDelay, int tickRepeat) {
+		return repeatSync(task, TimeUnit.MILLISECONDS, MCTicks.toMillisInt(tickDelay), MCTicks.toMillisInt(tickRepeat));
+	}
+
 	/*
 	 * Asynchronous tasks
 	 */
@@ -29,8 +55,209 @@ public interface TaskScheduler {
 	@NotNull Task delayAsync(@NotNull Runnable task, @NotNull TimeUnit unit, int delay);
 
 	default @NotNull Task delayAsync(@NotNull Runnable task, int tickDelay) {
-		return delayAsync(task, TimeUnit.MILLISECONDS, tickDelay * 50); // 1 tick = 50 milliseconds
+		return delayAsync(task, TimeUnit.MILLISECONDS, MCTicks.toMillisInt(tickDelay));
+	}
+
+	/**
+	 * Runs an asynchronous {@code task} after the specified {@code delay}, converted
+	 * to ticks with {@link MCTicks#toTicks(MCTimeUnit, long)}.
+	 *
+	 * @param task The task to run.
+	 * @param unit The {@link MCTimeUnit} of {@code delay}.
+	 * @param delay The delay before running the {@code task}.
+	 *
+	 * @return The scheduled {@link Task}.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	default @NotNull Task delayAsync(@NotNull Runnable task, @NotNull MCTimeUnit unit, int delay) {
+		return delayAsync(task, TimeUnit.MILLISECONDS, MCTicks.toMillisInt(unit.toTicks(delay)));
 	}
 
 	@NotNull Task repeatAsync(@NotNull Runnable task, @NotNull TimeUnit unit, int delay, int repeat);
+
+	default @NotNull Task repeatAsync(@NotNull Runnable task, int tickDelay, int tickRepeat) {
+		return repeatAsync(task, TimeUnit.MILLISECONDS, MCTicks.toMillisInt(tickDelay), MCTicks.toMillisInt(tickRepeat));
+	}
+
+	/*
+	 * Executors
+	 */
+
+	/**
+	 * Gets an {@link Executor} that runs tasks synchronously. Platforms with
+	 * a main thread run tasks on it, but may delay them to the next tick
+	 * instead of running them right away. By default, every task is
+	 * {@link #runSync(Runnable) scheduled} individually.
+	 *
+	 * @return An {@link Executor} that runs tasks synchronously.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	default @NotNull Executor getSyncExecutor() {
+		return this::runSync;
+	}
+
+	/**
+	 * Gets an {@link Executor} that runs tasks asynchronously. By default,
+	 * every task is {@link #runAsync(Runnable) scheduled} individually.
+	 *
+	 * @return An {@link Executor} that runs tasks asynchronously.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	default @NotNull Executor getAsyncExecutor() {
+		return this::runAsync;
+	}
+
+	/*
+	 * Futures
+	 */
+
+	/**
+	 * Gets a {@link CompletableFuture} that is completed with the value
+	 * obtained by calling {@code supplier} on the {@link #getSyncExecutor() sync executor}.
+	 *
+	 * @param supplier The {@link Supplier} that provides the value.
+	 *
+	 * @return The new {@link CompletableFuture}.
+	 *
+	 * @param <T> The type of the value.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	default <T> @NotNull CompletableFuture<T> supplySync(@NotNull Supplier<T> supplier) {
+		return CompletableFuture.supplyAsync(supplier, getSyncExecutor());
+	}
+
+	/**
+	 * Same as {@link #supplySync(Supplier)}, but the returned {@link CompletableFuture}
+	 * completes exceptionally with a {@link java.util.concurrent.TimeoutException TimeoutException}
+	 * if it isn't completed before the given {@code timeout}.
+	 *
+	 * @param supplier The {@link Supplier} that provides the value.
+	 * @param unit The {@link TimeUnit} of {@code timeout}.
+	 * @param timeout How long to wait before timing out.
+	 *
+	 * @return The new {@link CompletableFuture}.
+	 *
+	 * @param <T> The type of the value.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	default <T> @NotNull CompletableFuture<T> supplySync(@NotNull Supplier<T> supplier, @NotNull TimeUnit unit, long timeout) {
+		return supplySync(supplier).orTimeout(timeout, unit);
+	}
+
+	/**
+	 * Gets a {@link CompletableFuture} that is completed with the value
+	 * obtained by calling {@code supplier} on the {@link #getAsyncExecutor() async executor}.
+	 *
+	 * @param supplier The {@link Supplier} that provides the value.
+	 *
+	 * @return The new {@link CompletableFuture}.
+	 *
+	 * @param <T> The type of the value.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	default <T> @NotNull CompletableFuture<T> supplyAsync(@NotNull Supplier<T> supplier) {
+		return CompletableFuture.supplyAsync(supplier, getAsyncExecutor());
+	}
+
+	/**
+	 * Same as {@link #supplyAsync(Supplier)}, but the returned {@link CompletableFuture}
+	 * completes exceptionally with a {@link java.util.concurrent.TimeoutException TimeoutException}
+	 * if it isn't completed before the given {@code timeout}.
+	 *
+	 * @param supplier The {@link Supplier} that provides the value.
+	 * @param unit The {@link TimeUnit} of {@code timeout}.
+	 * @param timeout How long to wait before timing out.
+	 *
+	 * @return The new {@link CompletableFuture}.
+	 *
+	 * @param <T> The type of the value.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	default <T> @NotNull CompletableFuture<T> supplyAsync(@NotNull Supplier<T> supplier, @NotNull TimeUnit unit, long timeout) {
+		return supplyAsync(supplier).orTimeout(timeout, unit);
+	}
+
+	/**
+	 * Applies {@code function} to the result of {@code stage} on the
+	 * {@link #getSyncExecutor() sync executor} once {@code stage} completes.
+	 * This is the usual way to get back to the main thread after doing
+	 * some work with {@link #supplyAsync(Supplier)}.
+	 *
+	 * @param stage The {@link CompletionStage} to wait for.
+	 * @param function The {@link Function} to apply to the result of {@code stage}.
+	 *
+	 * @return A new {@link CompletableFuture} with the result of {@code function}.
+	 *
+	 * @param <T> The result type of {@code stage}.
+	 * @param <R> The result type of {@code function}.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	default <T, R> @NotNull CompletableFuture<R> thenApplySync(@NotNull CompletionStage<T> stage, @NotNull Function<? super T, ? extends R> function) {
+		return stage.toCompletableFuture().thenApplyAsync(function, getSyncExecutor());
+	}
+
+	/**
+	 * Same as {@link #thenApplySync(CompletionStage, Function)}, but the returned
+	 * {@link CompletableFuture} completes exceptionally with a
+	 * {@link java.util.concurrent.TimeoutException TimeoutException}
+	 * if it isn't completed before the given {@code timeout}.
+	 *
+	 * @param stage The {@link CompletionStage} to wait for.
+	 * @param function The {@link Function} to apply to the result of {@code stage}.
+	 * @param unit The {@link TimeUnit} of {@code timeout}.
+	 * @param timeout How long to wait before timing out.
+	 *
+	 * @return A new {@link CompletableFuture} with the result of {@code function}.
+	 *
+	 * @param <T> The result type of {@code stage}.
+	 * @param <R> The result type of {@code function}.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	default <T, R> @NotNull CompletableFuture<R> thenApplySync(@NotNull CompletionStage<T> stage, @NotNull Function<? super T, ? extends R> function, @NotNull TimeUnit unit, long timeout) {
+		return this.<T, R>thenApplySync(stage, function).orTimeout(timeout, unit);
+	}
+
+	/**
+	 * Passes the result of {@code stage} to {@code action} on the
+	 * {@link #getSyncExecutor() sync executor} once {@code stage} completes.
+	 *
+	 * @param stage The {@link CompletionStage} to wait for.
+	 * @param action The {@link Consumer} that will accept the result of {@code stage}.
+	 *
+	 * @return A new {@link CompletableFuture} that completes after {@code action} runs.
+	 *
+	 * @param <T> The result type of {@code stage}.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	default <T> @NotNull CompletableFuture<Void> thenAcceptSync(@NotNull CompletionStage<T> stage, @NotNull Consumer<? super T> action) {
+		return stage.toCompletableFuture().thenAcceptAsync(action, getSyncExecutor());
+	}
+
+	/**
+	 * Applies {@code function} to the result of {@code stage} on the
+	 * {@link #getAsyncExecutor() async executor} once {@code stage} completes.
+	 *
+	 * @param stage The {@link CompletionStage} to wait for.
+	 * @param function The {@link Function} to apply to the result of {@code stage}.
+	 *
+	 * @return A new {@link CompletableFuture} with the result of {@code function}.
+	 *
+	 * @param <T> The result type of {@code stage}.
+	 * @param <R> The result type of {@code function}.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	default <T, R> @NotNull CompletableFuture<R> thenApplyAsync(@NotNull CompletionStage<T> stage, @NotNull Function<? super T, ? extends R> function) {
+		return stage.toCompletableFuture().thenApplyAsync(function, getAsyncExecutor());
+	}
 }
@@ -0,0 +1,117 @@
+package net.codersky.skyutils.time;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A {@link Task} created by a {@link VirtualTaskScheduler}. Cancelling
+ * this task prevents any future execution of it and
+ * {@link Thread#interrupt() interrupts} the virtual thread that is
+ * currently running it, if any, so blocking calls that respond to
+ * interruption return as soon as possible.
+ *
+ * @since SkyUtils 1.0.0
+ *
+ * @author xDec0de_
+ */
+public class VirtualTask implements Task {
+
+	private final VirtualTaskScheduler scheduler;
+	private final Runnable task;
+	private final boolean repeating;
+	private final AtomicBoolean running = new AtomicBoolean(false);
+	private volatile boolean cancelled = false;
+	private volatile Thread thread = null;
+	private volatile ScheduledFuture<?> future = null;
+
+	VirtualTask(@NotNull VirtualTaskScheduler scheduler, @NotNull Runnable task, boolean repeating) {
+		this.scheduler = scheduler;
+		this.task = task;
+		this.repeating = repeating;
+	}
+
+	/**
+	 * Checks if this {@link VirtualTask} has been {@link #cancel() cancelled}.
+	 *
+	 * @return {@code true} if this {@link VirtualTask} has been cancelled,
+	 * {@code false} otherwise.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	public boolean isCancelled() {
+		return cancelled;
+	}
+
+	/**
+	 * Checks if this {@link VirtualTask} is currently running on a virtual thread.
+	 * Tasks that are waiting for the concurrency limit of their
+	 * {@link VirtualTaskScheduler} are considered to be running.
+	 *
+	 * @return {@code true} if this {@link VirtualTask} is currently running,
+	 * {@code false} otherwise.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	public boolean isRunning() {
+		return running.get();
+	}
+
+	@Override
+	public void cancel() {
+		if (cancelled)
+			return;
+		cancelled = true;
+		final ScheduledFuture<?> scheduled = future;
+		if (scheduled != null)
+			scheduled.cancel(false);
+		final Thread current = thread;
+		if (current != null)
+			current.interrupt();
+		scheduler.forget(this);
+	}
+
+	/*
+	 * Scheduler internals
+	 */
+
+	void setFuture(@Nullable ScheduledFuture<?> future) {
+		this.future = future;
+		if (cancelled && future != null)
+			future.cancel(false);
+	}
+
+	/**
+	 * Starts a new virtual thread for this task. Repeating tasks
+	 * skip the execution if the previous one is still running.
+	 */
+	void start() {
+		if (cancelled || !running.compareAndSet(false, true))
+			return;
+		scheduler.newThread(this::execute).start();
+	}
+
+	private void execute() {
+		thread = Thread.currentThread();
+		boolean acquired = false;
+		try {
+			if (cancelled)
+				return;
+			scheduler.acquire();
+			acquired = true;
+			if (!cancelled)
+				task.run();
+		} catch (InterruptedException ignored) {
+			// Cancelled while waiting for a permit.
+		} finally {
+			if (acquired)
+				scheduler.release();
+			thread = null;
+			running.set(false);
+			if (!repeating)
+				scheduler.forget(this);
+		}
+	}
+}
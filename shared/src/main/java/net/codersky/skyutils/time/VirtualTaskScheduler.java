@@ -0,0 +1,247 @@
+package net.codersky.skyutils.time;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * A {@link TaskScheduler} that runs asynchronous tasks on Java virtual
+ * threads, making it suitable for large amounts of blocking I/O such as
+ * network or database calls. Synchronous tasks are delegated to the
+ * platform {@link TaskScheduler} provided on the constructor.
+ * <p>
+ * Each instance has its own concurrency limit, so a plugin can't flood the
+ * server with blocking work: tasks above the limit simply wait (on their
+ * own virtual thread) until a permit is released. Delays and repetitions
+ * are handled by a single timer thread that only starts virtual threads
+ * and never runs tasks itself.
+ * <p>
+ * Usage example, using the platform scheduler for synchronous tasks:
+ * <pre>
+ * VirtualTaskScheduler io = new VirtualTaskScheduler(utils.getScheduler(), "MyPlugin-IO", 64);
+ * io.runAsync(() -&gt; database.save(data));
+ * </pre>
+ * Remember to {@link #shutdown() shut down} the scheduler when your plugin
+ * gets disabled.
+ *
+ * @since SkyUtils 1.0.0
+ *
+ * @author xDec0de_
+ */
+public class VirtualTaskScheduler implements TaskScheduler {
+
+	private final TaskScheduler syncScheduler;
+	private final int maxConcurrency;
+	private final Semaphore limiter;
+	private final ThreadFactory threadFactory;
+	private final ScheduledThreadPoolExecutor timer;
+	private final Set<VirtualTask> tasks = ConcurrentHashMap.newKeySet();
+
+	/**
+	 * Creates a new {@link VirtualTaskScheduler}.
+	 *
+	 * @param syncScheduler The {@link TaskScheduler} used to run synchronous tasks,
+	 * generally the platform scheduler of your plugin.
+	 * @param name The name of this scheduler, used to name its threads.
+	 * @param maxConcurrency The maximum amount of asynchronous tasks that
+	 * can run at the same time.
+	 *
+	 * @throws NullPointerException if {@code syncScheduler} or {@code name} are {@code null}.
+	 * @throws IllegalArgumentException if {@code maxConcurrency} is minor than 1.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	public VirtualTaskScheduler(@NotNull TaskScheduler syncScheduler, @NotNull String name, int maxConcurrency) {
+		if (maxConcurrency < 1)
+			throw new IllegalArgumentException("maxConcurrency must be at least 1.");
+		this.syncScheduler = Objects.requireNonNull(syncScheduler, "syncScheduler cannot be null.");
+		this.maxConcurrency = maxConcurrency;
+		this.limiter = new Semaphore(maxConcurrency, true);
+		this.threadFactory = Thread.ofVirtual().name(Objects.requireNonNull(name, "name cannot be null.") + "-", 0).factory();
+		this.timer = new ScheduledThreadPoolExecutor(1, Thread.ofPlatform().name(name + "-timer").daemon().factory());
+		this.timer.setRemoveOnCancelPolicy(true);
+	}
+
+	/*
+	 * Info
+	 */
+
+	/**
+	 * Gets the maximum amount of asynchronous tasks that
+	 * can run at the same time on this {@link VirtualTaskScheduler}.
+	 *
+	 * @return The concurrency limit of this {@link VirtualTaskScheduler}.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	public int getMaxConcurrency() {
+		return maxConcurrency;
+	}
+
+	/**
+	 * Gets the amount of asynchronous tasks that are currently running.
+	 *
+	 * @return The amount of asynchronous tasks that are currently running.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	public int getActiveCount() {
+		return maxConcurrency - limiter.availablePermits();
+	}
+
+	/**
+	 * Gets the amount of asynchronous tasks that are waiting for
+	 * the concurrency limit to allow them to run.
+	 *
+	 * @return The amount of asynchronous tasks that are waiting to run.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	public int getQueuedCount() {
+		return limiter.getQueueLength();
+	}
+
+	/*
+	 * Synchronous tasks
+	 */
+
+	@NotNull
+	@Override
+	public Task runSync(@NotNull Runnable task) {
+		return syncScheduler.runSync(task);
+	}
+
+	@NotNull
+	@Override
+	public Task delaySync(@NotNull Runnable task, @NotNull TimeUnit unit, int delay) {
+		return syncScheduler.delaySync(task, unit, delay);
+	}
+
+	@NotNull
+	@Override
+	public Task repeatSync(@NotNull Runnable task, @NotNull TimeUnit unit, int delay, int repeat) {
+		return syncScheduler.repeatSync(task, unit, delay, repeat);
+	}
+
+	/*
+	 * Asynchronous tasks
+	 */
+
+	@NotNull
+	@Override
+	public VirtualTask runAsync(@NotNull Runnable task) {
+		final VirtualTask vTask = track(task, false);
+		vTask.start();
+		return vTask;
+	}
+
+	@NotNull
+	@Override
+	public VirtualTask delayAsync(@NotNull Runnable task, @NotNull TimeUnit unit, int delay) {
+		final VirtualTask vTask = track(task, false);
+		vTask.setFuture(timer.schedule(vTask::start, Math.max(0, delay), unit));
+		return vTask;
+	}
+
+	@NotNull
+	@Override
+	public VirtualTask repeatAsync(@NotNull Runnable task, @NotNull TimeUnit unit, int delay, int repeat) {
+		if (repeat <= 0)
+			throw new IllegalArgumentException("repeat must be higher than 0.");
+		final VirtualTask vTask = track(task, true);
+		vTask.setFuture(timer.scheduleAtFixedRate(vTask::start, Math.max(0, delay), repeat, unit));
+		return vTask;
+	}
+
+	/*
+	 * Executors
+	 */
+
+	@NotNull
+	@Override
+	public Executor getSyncExecutor() {
+		return syncScheduler.getSyncExecutor();
+	}
+
+	/*
+	 * Futures
+	 */
+
+	// Delegated so the platform scheduler can handle futures whose task can't be scheduled.
+
+	@NotNull
+	@Override
+	public <T> CompletableFuture<T> supplySync(@NotNull Supplier<T> supplier) {
+		return syncScheduler.supplySync(supplier);
+	}
+
+	@NotNull
+	@Override
+	public <T, R> CompletableFuture<R> thenApplySync(@NotNull CompletionStage<T> stage, @NotNull Function<? super T, ? extends R> function) {
+		return syncScheduler.thenApplySync(stage, function);
+	}
+
+	@NotNull
+	@Override
+	public <T> CompletableFuture<Void> thenAcceptSync(@NotNull CompletionStage<T> stage, @NotNull Consumer<? super T> action) {
+		return syncScheduler.thenAcceptSync(stage, action);
+	}
+
+	/*
+	 * Shutdown
+	 */
+
+	/**
+	 * {@link VirtualTask#cancel() Cancels} every asynchronous task created by
+	 * this {@link VirtualTaskScheduler} and stops its timer thread. Synchronous
+	 * tasks are not affected as they are handled by the platform scheduler.
+	 * This scheduler can't be used after calling this method.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	public void shutdown() {
+		timer.shutdownNow();
+		for (VirtualTask task : tasks)
+			task.cancel();
+	}
+
+	/*
+	 * Internal
+	 */
+
+	@NotNull
+	private VirtualTask track(@NotNull Runnable task, boolean repeating) {
+		final VirtualTask vTask = new VirtualTask(this, Objects.requireNonNull(task, "task cannot be null."), repeating);
+		tasks.add(vTask);
+		return vTask;
+	}
+
+	void forget(@NotNull VirtualTask task) {
+		tasks.remove(task);
+	}
+
+	@NotNull
+	Thread newThread(@NotNull Runnable runnable) {
+		return threadFactory.newThread(runnable);
+	}
+
+	void acquire() throws InterruptedException {
+		limiter.acquire();
+	}
+
+	void release() {
+		limiter.release();
+	}
+}
@@ -0,0 +1,313 @@
+package net.codersky.skyutils.time.cooldown;
+
+import net.codersky.skyutils.crossplatform.player.OfflineSkyPlayer;
+import net.codersky.skyutils.time.MCTicks;
+import net.codersky.skyutils.time.MCTimeUnit;
+import net.codersky.skyutils.time.timer.Timer;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * A cooldown for a specific action, created with {@link CooldownManager#register(String, MCTimeUnit, int)}.
+ * Players are stored on a primitive open addressing map keyed by their {@link UUID}
+ * along with the tick on which their cooldown expires, so checking or starting a
+ * cooldown doesn't box or allocate anything. Expired players are removed when a
+ * cooldown is started, at most once per {@link CooldownManager#getSweepInterval()
+ * sweep interval}, and are already treated as not being on cooldown before that happens.
+ * <p>
+ * Usage example:
+ * <pre>
+ * Cooldown heal = cooldowns.register("heal", MCTimeUnit.SECONDS, 30);
+ *
+ * if (!heal.tryStart(player))
+ *     player.sendMessage("Wait %time% to heal again", new Replacer("%time%", heal.getRemainingTimer(player)));
+ * </pre>
+ * Cooldowns aren't thread safe and should only be used from a single thread,
+ * usually the one that handles player events.
+ *
+ * @since SkyUtils 1.0.0
+ *
+ * @author xDec0de_
+ */
+public final class Cooldown {
+
+	private final CooldownManager manager;
+	private final String action;
+	private final long durationTicks;
+	private final UUIDExpiryMap players = new UUIDExpiryMap();
+	private long nextSweep = 0;
+
+	Cooldown(@NotNull CooldownManager manager, @NotNull String action, long durationTicks) {
+		this.manager = manager;
+		this.action = action;
+		this.durationTicks = durationTicks;
+	}
+
+	/*
+	 - Info
+	 */
+
+	/**
+	 * Gets the name of the action of this {@link Cooldown}.
+	 *
+	 * @return The name of the action of this {@link Cooldown}.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	@NotNull
+	public String getAction() {
+		return action;
+	}
+
+	/**
+	 * Gets the default duration of this {@link Cooldown}, in ticks.
+	 *
+	 * @return The default duration of this {@link Cooldown}, in ticks.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	public long getDurationTicks() {
+		return durationTicks;
+	}
+
+	/**
+	 * Gets the amount of players stored on this {@link Cooldown}, which may
+	 * include players whose cooldown expired but weren't swept yet.
+	 *
+	 * @return The amount of players stored on this {@link Cooldown}.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	public int size() {
+		return players.size();
+	}
+
+	/*
+	 - Checks
+	 */
+
+	/**
+	 * Checks if the player with the specified {@code uuid} is on cooldown.
+	 *
+	 * @param uuid The {@link UUID} of the player to check.
+	 *
+	 * @return {@code true} if the player is on cooldown, {@code false} otherwise.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	public boolean isActive(@NotNull UUID uuid) {
+		return players.get(uuid) > manager.getCurrentTick();
+	}
+
+	/**
+	 * Checks if the specified {@code player} is on cooldown.
+	 *
+	 * @param player The player to check.
+	 *
+	 * @return {@code true} if the player is on cooldown, {@code false} otherwise.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	public boolean isActive(@NotNull OfflineSkyPlayer player) {
+		return isActive(player.getUniqueId());
+	}
+
+	/**
+	 * Gets the remaining ticks of the cooldown of the player with the specified {@code uuid}.
+	 *
+	 * @param uuid The {@link UUID} of the player to check.
+	 *
+	 * @return The remaining ticks of the cooldown, 0 if the player isn't on cooldown.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	public long getRemainingTicks(@NotNull UUID uuid) {
+		return Math.max(0, players.get(uuid) - manager.getCurrentTick());
+	}
+
+	/**
+	 * Gets the remaining ticks of the cooldown of the specified {@code player}.
+	 *
+	 * @param player The player to check.
+	 *
+	 * @return The remaining ticks of the cooldown, 0 if the player isn't on cooldown.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	public long getRemainingTicks(@NotNull OfflineSkyPlayer player) {
+		return getRemainingTicks(player.getUniqueId());
+	}
+
+	/**
+	 * Gets the remaining time of the cooldown of the specified {@code player}
+	 * converted to {@code unit}, rounding down.
+	 *
+	 * @param player The player to check.
+	 * @param unit The {@link MCTimeUnit} to convert the time to.
+	 *
+	 * @return The remaining time of the cooldown, 0 if the player isn't on cooldown.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	public long getRemaining(@NotNull OfflineSkyPlayer player, @NotNull MCTimeUnit unit) {
+		return MCTicks.fromTicks(getRemainingTicks(player), unit);
+	}
+
+	/**
+	 * Gets the remaining time of the cooldown of the specified {@code player} as a
+	 * {@link Timer}, rounding up to the next second. {@link Timer Timers} are
+	 * {@link net.codersky.jsky.strings.Replacement replacements}, so the returned
+	 * value can be used directly on messages. Unlike the rest of the methods of this
+	 * class, this method creates a new object, so it should only be used for messages.
+	 *
+	 * @param player The player to check.
+	 *
+	 * @return The remaining time of the cooldown as a {@link Timer}.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	@NotNull
+	public Timer getRemainingTimer(@NotNull OfflineSkyPlayer player) {
+		final long seconds = Math.ceilDiv(getRemainingTicks(player), MCTicks.TICKS_PER_SECOND);
+		return new Timer((int) Math.min(Integer.MAX_VALUE, seconds));
+	}
+
+	/*
+	 - Modification
+	 */
+
+	/**
+	 * Puts the player with the specified {@code uuid} on cooldown for
+	 * the {@link #getDurationTicks() default duration}, replacing any
+	 * cooldown the player already had.
+	 *
+	 * @param uuid The {@link UUID} of the player.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	public void start(@NotNull UUID uuid) {
+		startTicks(uuid, durationTicks);
+	}
+
+	/**
+	 * Puts the specified {@code player} on cooldown for the
+	 * {@link #getDurationTicks() default duration}, replacing any
+	 * cooldown the player already had.
+	 *
+	 * @param player The player.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	public void start(@NotNull OfflineSkyPlayer player) {
+		start(player.getUniqueId());
+	}
+
+	/**
+	 * Puts the specified {@code player} on cooldown for a custom
+	 * duration, replacing any cooldown the player already had.
+	 *
+	 * @param player The player.
+	 * @param unit The {@link MCTimeUnit} of {@code duration}.
+	 * @param duration The duration of the cooldown.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	public void start(@NotNull OfflineSkyPlayer player, @NotNull MCTimeUnit unit, int duration) {
+		startTicks(player.getUniqueId(), unit.toTicks(duration));
+	}
+
+	private void startTicks(@NotNull UUID uuid, long ticks) {
+		Objects.requireNonNull(uuid, "uuid cannot be null.");
+		if (ticks <= 0) {
+			players.remove(uuid);
+			return;
+		}
+		final long now = manager.getCurrentTick();
+		// Amortised pruning on the caller's thread, only while the map can grow.
+		if (now >= nextSweep) {
+			players.removeExpired(now);
+			nextSweep = now + manager.getSweepInterval();
+		}
+		players.put(uuid, ticks > Long.MAX_VALUE - now ? Long.MAX_VALUE : now + ticks);
+	}
+
+	/**
+	 * Puts the player with the specified {@code uuid} on cooldown for the
+	 * {@link #getDurationTicks() default duration} only if the player isn't
+	 * already on cooldown. This is the usual way to check and start a cooldown
+	 * with a single lookup.
+	 *
+	 * @param uuid The {@link UUID} of the player.
+	 *
+	 * @return {@code true} if the player wasn't on cooldown and the cooldown
+	 * started, {@code false} if the player is still on cooldown.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	public boolean tryStart(@NotNull UUID uuid) {
+		if (isActive(uuid))
+			return false;
+		start(uuid);
+		return true;
+	}
+
+	/**
+	 * Puts the specified {@code player} on cooldown for the
+	 * {@link #getDurationTicks() default duration} only if the player isn't
+	 * already on cooldown.
+	 *
+	 * @param player The player.
+	 *
+	 * @return {@code true} if the player wasn't on cooldown and the cooldown
+	 * started, {@code false} if the player is still on cooldown.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	public boolean tryStart(@NotNull OfflineSkyPlayer player) {
+		return tryStart(player.getUniqueId());
+	}
+
+	/**
+	 * Removes the cooldown of the player with the specified {@code uuid}.
+	 *
+	 * @param uuid The {@link UUID} of the player.
+	 *
+	 * @return {@code true} if the player was on cooldown, {@code false} otherwise.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	public boolean reset(@NotNull UUID uuid) {
+		final boolean active = isActive(uuid);
+		players.remove(uuid);
+		return active;
+	}
+
+	/**
+	 * Removes the cooldown of the specified {@code player}.
+	 *
+	 * @param player The player.
+	 *
+	 * @return {@code true} if the player was on cooldown, {@code false} otherwise.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	public boolean reset(@NotNull OfflineSkyPlayer player) {
+		return reset(player.getUniqueId());
+	}
+
+	/**
+	 * Removes the cooldown of every player.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	public void clear() {
+		players.clear();
+	}
+
+	int sweep(long now) {
+		nextSweep = now + manager.getSweepInterval();
+		return players.removeExpired(now);
+	}
+}
@@ -0,0 +1,199 @@
+package net.codersky.skyutils.time.cooldown;
+
+import net.codersky.skyutils.time.MCTicks;
+import net.codersky.skyutils.time.MCTimeUnit;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Registry of {@link Cooldown cooldowns} keyed by action name. Cooldowns
+ * store expiries as ticks of a monotonic clock owned by this manager, so
+ * checking a cooldown is a single primitive map lookup and a comparison.
+ * Expired entries are pruned lazily by each {@link Cooldown} when a cooldown
+ * is started, at most once per sweep interval, so no task is scheduled and
+ * the cost of pruning is amortised over the calls that make the map grow.
+ * <p>
+ * Usage example:
+ * <pre>
+ * CooldownManager cooldowns = new CooldownManager();
+ * Cooldown heal = cooldowns.register("heal", MCTimeUnit.SECONDS, 30);
+ * </pre>
+ * This class isn't thread safe. The manager and its cooldowns should only be
+ * used from a single thread, usually the one that handles player events, and
+ * pruning always happens on the thread that calls them.
+ *
+ * @since SkyUtils 1.0.0
+ *
+ * @author xDec0de_
+ */
+public class CooldownManager {
+
+	/** Default minimum interval, in ticks, between sweeps of expired cooldowns. */
+	public static final int DEFAULT_SWEEP_INTERVAL = 20 * 30;
+
+	private final int sweepInterval;
+	private final long origin = System.nanoTime();
+	private final Map<String, Cooldown> cooldowns = new HashMap<>();
+
+	/**
+	 * Creates a new {@link CooldownManager} that sweeps expired cooldowns
+	 * at most every {@link #DEFAULT_SWEEP_INTERVAL} ticks.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	public CooldownManager() {
+		this(DEFAULT_SWEEP_INTERVAL);
+	}
+
+	/**
+	 * Creates a new {@link CooldownManager}.
+	 *
+	 * @param sweepInterval The minimum interval, in ticks, between sweeps of the expired
+	 * cooldowns of a {@link Cooldown}. Expired cooldowns are never reported as active,
+	 * so this only affects memory usage.
+	 *
+	 * @throws IllegalArgumentException if {@code sweepInterval} is lower than 1.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	public CooldownManager(int sweepInterval) {
+		if (sweepInterval < 1)
+			throw new IllegalArgumentException("Sweep interval must be at least one tick.");
+		this.sweepInterval = sweepInterval;
+	}
+
+	/**
+	 * Gets the minimum interval, in ticks, between sweeps of the
+	 * expired cooldowns of a {@link Cooldown}.
+	 *
+	 * @return The sweep interval of this {@link CooldownManager}.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	public int getSweepInterval() {
+		return sweepInterval;
+	}
+
+	/*
+	 - Clock
+	 */
+
+	/**
+	 * Gets the current tick of this {@link CooldownManager}. Ticks are
+	 * measured from the creation of the manager with {@link System#nanoTime()},
+	 * so they aren't affected by server lag or system clock changes. The
+	 * first tick is 1.
+	 *
+	 * @return The current tick of this {@link CooldownManager}.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	public long getCurrentTick() {
+		// Start at 1 as expiries of 0 mark empty slots.
+		return (System.nanoTime() - origin) / MCTicks.NANOS_PER_TICK + 1;
+	}
+
+	/*
+	 - Registry
+	 */
+
+	/**
+	 * Registers a new {@link Cooldown} for the specified {@code action},
+	 * replacing any previous {@link Cooldown} registered for it.
+	 *
+	 * @param action The name of the action.
+	 * @param unit The {@link MCTimeUnit} of {@code duration}.
+	 * @param duration The default duration of the cooldown.
+	 *
+	 * @return The new {@link Cooldown}.
+	 *
+	 * @throws IllegalArgumentException if {@code duration} is lower than 1.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	@NotNull
+	public Cooldown register(@NotNull String action, @NotNull MCTimeUnit unit, int duration) {
+		Objects.requireNonNull(action, "action cannot be null.");
+		if (duration < 1)
+			throw new IllegalArgumentException("Cooldown duration must be positive.");
+		final Cooldown cooldown = new Cooldown(this, action, unit.toTicks(duration));
+		cooldowns.put(action, cooldown);
+		return cooldown;
+	}
+
+	/**
+	 * Gets the {@link Cooldown} registered for the specified {@code action}.
+	 *
+	 * @param action The name of the action.
+	 *
+	 * @return The {@link Cooldown} registered for {@code action}, {@code null} if none.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	@Nullable
+	public Cooldown get(@NotNull String action) {
+		return cooldowns.get(action);
+	}
+
+	/**
+	 * Unregisters the {@link Cooldown} of the specified {@code action}.
+	 *
+	 * @param action The name of the action.
+	 *
+	 * @return The removed {@link Cooldown}, {@code null} if none.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	@Nullable
+	public Cooldown unregister(@NotNull String action) {
+		return cooldowns.remove(action);
+	}
+
+	/**
+	 * Gets an unmodifiable view of every registered {@link Cooldown}.
+	 *
+	 * @return An unmodifiable view of every registered {@link Cooldown}.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	@NotNull
+	public Collection<Cooldown> getCooldowns() {
+		return Collections.unmodifiableCollection(cooldowns.values());
+	}
+
+	/*
+	 - Sweeping
+	 */
+
+	/**
+	 * Removes every expired entry of every registered {@link Cooldown}. Each
+	 * {@link Cooldown} already sweeps itself periodically when cooldowns are
+	 * started, so calling this manually is generally not needed.
+	 *
+	 * @return The amount of removed entries.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	public int sweep() {
+		final long now = getCurrentTick();
+		int removed = 0;
+		for (Cooldown cooldown : cooldowns.values())
+			removed += cooldown.sweep(now);
+		return removed;
+	}
+
+	/**
+	 * Unregisters every {@link Cooldown}.
+	 *
+	 * @since SkyUtils 1.0.0
+	 */
+	public void shutdown() {
+		cooldowns.clear();
+	}
+}
@@ -0,0 +1,167 @@
+package net.codersky.skyutils.time.cooldown;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * Open addressing hash map from {@link UUID} to an expiry tick, used by
+ * {@link Cooldown}. UUIDs are stored as their two {@code long} halves on
+ * parallel arrays, so lookups and updates never box or allocate. Collisions
+ * are resolved with linear probing and removals use backward shift deletion,
+ * so the map never accumulates tombstones.
+ * <p>
+ * An expiry of 0 marks an empty slot, so stored expiries must be positive.
+ *
+ * @since SkyUtils 1.0.0
+ *
+ * @author xDec0de_
+ */
+final class UUIDExpiryMap {
+
+	private static final int MIN_CAPACITY = 16;
+
+	private long[] most;
+	private long[] least;
+	private long[] expiry;
+	private int mask;
+	private int size = 0;
+
+	UUIDExpiryMap() {
+		allocate(MIN_CAPACITY);
+	}
+
+	private void allocate(int capacity) {
+		most = new long[capacity];
+		least = new long[capacity];
+		expiry = new long[capacity];
+		mask = capacity - 1;
+	}
+
+	private static int hash(long msb, long lsb) {
+		long h = msb ^ lsb;
+		h ^= h >>> 33;
+		h *= 0xff51afd7ed558ccdL;
+		h ^= h >>> 33;
+		return (int) h;
+	}
+
+	private int indexOf(long msb, long lsb) {
+		int i = hash(msb, lsb) & mask;
+		while (expiry[i] != 0) {
+			if (most[i] == msb && least[i] == lsb)
+				return i;
+			i = (i + 1) & mask;
+		}
+		return -1;
+	}
+
+	int size() {
+		return size;
+	}
+
+	/** Returns the expiry of {@code uuid}, 0 if not present. */
+	long get(@NotNull UUID uuid) {
+		final int i = indexOf(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+		return i == -1 ? 0 : expiry[i];
+	}
+
+	void put(@NotNull UUID uuid, long expiresAt) {
+		final long msb = uuid.getMostSignificantBits();
+		final long lsb = uuid.getLeastSignificantBits();
+		int i = hash(msb, lsb) & mask;
+		while (expiry[i] != 0) {
+			if (most[i] == msb && least[i] == lsb) {
+				expiry[i] = expiresAt;
+				return;
+			}
+			i = (i + 1) & mask;
+		}
+		most[i] = msb;
+		least[i] = lsb;
+		expiry[i] = expiresAt;
+		// Keep the load factor under 0.5 so probe sequences stay short.
+		if (++size > (mask + 1) >> 1)
+			rehash((mask + 1) << 1);
+	}
+
+	boolean remove(@NotNull UUID uuid) {
+		final int i = indexOf(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+		if (i == -1)
+			return false;
+		removeAt(i);
+		return true;
+	}
+
+	/**
+	 * Removes every entry that expires at or before {@code now}.
+	 *
+	 * @return The amount of removed entries.
+	 */
+	int removeExpired(long now) {
+		if (size == 0)
+			return 0;
+		// Start right after an empty slot. Backward shifts never move entries across
+		// an empty slot, so every entry is visited exactly once.
+		int start = 0;
+		while (expiry[start] != 0)
+			start = (start + 1) & mask;
+		int removed = 0;
+		int i = (start + 1) & mask;
+		for (int visited = 0; visited <= mask;) {
+			final long exp = expiry[i];
+			if (exp != 0 && exp <= now) {
+				// removeAt may move another entry into i, so i is checked again.
+				removeAt(i);
+				removed++;
+				continue;
+			}
+			i = (i + 1) & mask;
+			visited++;
+		}
+		if (size < (mask + 1) >> 3 && mask + 1 > MIN_CAPACITY)
+			rehash(Math.max(MIN_CAPACITY, Integer.highestOneBit(size << 2)));
+		return removed;
+	}
+
+	void clear() {
+		if (mask + 1 > MIN_CAPACITY)
+			allocate(MIN_CAPACITY);
+		else
+			Arrays.fill(expiry, 0);
+		size = 0;
+	}
+
+	private void removeAt(int hole) {
+		int i = (hole + 1) & mask;
+		while (expiry[i] != 0) {
+			final int home = hash(most[i], least[i]) & mask;
+			// Move the entry back if the hole is between its home slot and its current slot.
+			if (((i - home) & mask) >= ((i - hole) & mask)) {
+				most[hole] = most[i];
+				least[hole] = least[i];
+				expiry[hole] = expiry[i];
+				hole = i;
+			}
+			i = (i + 1) & mask;
+		}
+		expiry[hole] = 0;
+		size--;
+	}
+
+	private void rehash(int capacity) {
+		final long[] oldMost = most, oldLeast = least, oldExpiry = expiry;
+		allocate(capacity);
+		for (int j = 0; j < oldExpiry.length; j++) {
+			if (oldExpiry[j] == 0)
+				continue;
+			int i = hash(oldMost[j], oldLeast[j]) & mask;
+			while (expiry[i] != 0)
+				i = (i + 1) & mask;
+			most[i] = oldMost[j];
+			least[i] = oldLeast[j];
+			expiry[i] = oldExpiry[j];
+		}
+	}
+}
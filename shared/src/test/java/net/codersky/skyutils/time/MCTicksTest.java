@@ -0,0 +1,74 @@
+package net.codersky.skyutils.time;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class MCTicksTest {
+
+	/*
+	 - Real time to ticks
+	 */
+
+	@Test
+	void toTicksRoundsPartialTicksUp() {
+		assertEquals(1, MCTicks.toTicks(TimeUnit.MILLISECONDS, 1));
+		assertEquals(1, MCTicks.toTicks(TimeUnit.MILLISECONDS, 50));
+		assertEquals(2, MCTicks.toTicks(TimeUnit.MILLISECONDS, 51));
+		assertEquals(20, MCTicks.toTicks(TimeUnit.SECONDS, 1));
+	}
+
+	@Test
+	void toTicksRoundsSubMillisecondDurationsUp() {
+		assertEquals(1, MCTicks.toTicks(TimeUnit.NANOSECONDS, 1));
+		assertEquals(1, MCTicks.toTicks(TimeUnit.MICROSECONDS, 50_000));
+		assertEquals(2, MCTicks.toTicks(TimeUnit.MICROSECONDS, 50_001));
+	}
+
+	@Test
+	void toTicksIgnoresNonPositiveAmounts() {
+		assertEquals(0, MCTicks.toTicks(TimeUnit.SECONDS, 0));
+		assertEquals(0, MCTicks.toTicks(TimeUnit.SECONDS, -1));
+		assertEquals(0, MCTicks.toTicks(MCTimeUnit.HOURS, Long.MIN_VALUE));
+	}
+
+	@Test
+	void toTicksSaturates() {
+		// TimeUnit saturates at Long.MAX_VALUE milliseconds, which is then divided into ticks.
+		assertEquals(Long.MAX_VALUE / MCTicks.MILLIS_PER_TICK + 1, MCTicks.toTicks(TimeUnit.DAYS, Long.MAX_VALUE));
+		assertEquals(Long.MAX_VALUE, MCTicks.toTicks(MCTimeUnit.HOURS, Long.MAX_VALUE));
+		assertEquals(Long.MAX_VALUE, MCTicks.toTicks(MCTimeUnit.SECONDS, Long.MAX_VALUE / 10));
+	}
+
+	/*
+	 - Ticks to real time
+	 */
+
+	@Test
+	void fromTicks() {
+		assertEquals(1000, MCTicks.fromTicks(20, TimeUnit.MILLISECONDS));
+		assertEquals(1, MCTicks.fromTicks(MCTicks.TICKS_PER_HOUR, TimeUnit.HOURS));
+		assertEquals(0, MCTicks.fromTicks(19, MCTimeUnit.SECONDS));
+		assertEquals(0, MCTicks.fromTicks(-20, TimeUnit.SECONDS));
+	}
+
+	@Test
+	void fromTicksSaturates() {
+		assertEquals(Long.MAX_VALUE, MCTicks.fromTicks(Long.MAX_VALUE, TimeUnit.NANOSECONDS));
+		assertEquals(Long.MAX_VALUE, MCTicks.toMillis(Long.MAX_VALUE));
+	}
+
+	/*
+	 - Scheduler helpers
+	 */
+
+	@Test
+	void toMillisInt() {
+		assertEquals(1000, MCTicks.toMillisInt(20));
+		assertEquals(0, MCTicks.toMillisInt(-1));
+		assertEquals(Integer.MAX_VALUE, MCTicks.toMillisInt(Integer.MAX_VALUE));
+		assertEquals(Integer.MAX_VALUE, MCTicks.toMillisInt(Long.MAX_VALUE));
+	}
+}
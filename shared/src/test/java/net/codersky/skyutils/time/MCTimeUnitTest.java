@@ -0,0 +1,36 @@
+package net.codersky.skyutils.time;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class MCTimeUnitTest {
+
+	@Test
+	void ticksPerUnit() {
+		assertEquals(72000, MCTimeUnit.HOURS.getTicks());
+		assertEquals(1200, MCTimeUnit.MINUTES.getTicks());
+		assertEquals(20, MCTimeUnit.SECONDS.getTicks());
+		assertEquals(1, MCTimeUnit.TICKS.getTicks());
+	}
+
+	@Test
+	void toTicks() {
+		assertEquals(72000, MCTimeUnit.HOURS.toTicks(1));
+		assertEquals(3600, MCTimeUnit.MINUTES.toTicks(3));
+		assertEquals(0, MCTimeUnit.SECONDS.toTicks(-5));
+		assertEquals(Long.MAX_VALUE, MCTimeUnit.HOURS.toTicks(Long.MAX_VALUE));
+	}
+
+	@Test
+	void toOtherUnits() {
+		assertEquals(60, MCTimeUnit.HOURS.toMinutes(1));
+		assertEquals(120, MCTimeUnit.MINUTES.toSeconds(2));
+		assertEquals(1, MCTimeUnit.MINUTES.toHours(60));
+		assertEquals(0, MCTimeUnit.TICKS.toUnit(19, MCTimeUnit.SECONDS));
+		assertEquals(1000, MCTimeUnit.SECONDS.toTimeUnit(1, TimeUnit.MILLISECONDS));
+		assertEquals(Long.MAX_VALUE, MCTimeUnit.HOURS.toTimeUnit(Long.MAX_VALUE, TimeUnit.NANOSECONDS));
+	}
+}
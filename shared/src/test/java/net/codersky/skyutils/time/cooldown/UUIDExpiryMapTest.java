@@ -0,0 +1,93 @@
+package net.codersky.skyutils.time.cooldown;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class UUIDExpiryMapTest {
+
+	private static void assertMatches(Map<UUID, Long> expected, UUID[] keys, UUIDExpiryMap map) {
+		assertEquals(expected.size(), map.size());
+		for (UUID key : keys)
+			assertEquals(expected.getOrDefault(key, 0L), map.get(key), key::toString);
+	}
+
+	@Test
+	void matchesHashMapUnderRandomOperations() {
+		// Few keys and many operations, so probe chains are constantly built and shifted back.
+		final Random random = new Random(42);
+		final UUID[] keys = new UUID[64];
+		for (int i = 0; i < keys.length; i++)
+			keys[i] = new UUID(random.nextLong(), random.nextLong());
+		final UUIDExpiryMap map = new UUIDExpiryMap();
+		final HashMap<UUID, Long> expected = new HashMap<>();
+		long now = 1;
+		for (int op = 0; op < 100_000; op++) {
+			final UUID key = keys[random.nextInt(keys.length)];
+			switch (random.nextInt(10)) {
+				case 0 -> {
+					now += random.nextInt(20);
+					final long tick = now;
+					assertEquals(expected.values().stream().filter(expiry -> expiry <= tick).count(), map.removeExpired(now));
+					expected.values().removeIf(expiry -> expiry <= tick);
+				}
+				case 1, 2, 3 -> assertEquals(expected.remove(key) != null, map.remove(key));
+				default -> {
+					final long expiry = now + 1 + random.nextInt(100);
+					map.put(key, expiry);
+					expected.put(key, expiry);
+				}
+			}
+			if (op % 100 == 0)
+				assertMatches(expected, keys, map);
+		}
+		assertMatches(expected, keys, map);
+	}
+
+	@Test
+	void removingAnyEntryKeepsTheOthersReachable() {
+		final UUID[] keys = new UUID[8];
+		for (int i = 0; i < keys.length; i++)
+			keys[i] = new UUID(0, i);
+		for (UUID removed : keys) {
+			final UUIDExpiryMap map = new UUIDExpiryMap();
+			for (int i = 0; i < keys.length; i++)
+				map.put(keys[i], i + 1);
+			assertTrue(map.remove(removed));
+			assertFalse(map.remove(removed));
+			for (int i = 0; i < keys.length; i++)
+				assertEquals(keys[i] == removed ? 0 : i + 1, map.get(keys[i]));
+		}
+	}
+
+	@Test
+	void removeExpiredShrinksAndKeepsLiveEntries() {
+		final UUIDExpiryMap map = new UUIDExpiryMap();
+		for (int i = 0; i < 1000; i++)
+			map.put(new UUID(i, i), i < 990 ? 10 : 100);
+		assertEquals(990, map.removeExpired(10));
+		assertEquals(10, map.size());
+		for (int i = 990; i < 1000; i++)
+			assertEquals(100, map.get(new UUID(i, i)));
+		assertEquals(0, map.get(new UUID(0, 0)));
+	}
+
+	@Test
+	void clearRemovesEveryEntry() {
+		final UUIDExpiryMap map = new UUIDExpiryMap();
+		for (int i = 0; i < 100; i++)
+			map.put(new UUID(i, -i), 5);
+		map.clear();
+		assertEquals(0, map.size());
+		assertEquals(0, map.get(new UUID(1, -1)));
+		map.put(new UUID(1, -1), 7);
+		assertEquals(7, map.get(new UUID(1, -1)));
+	}
+}